@@ -2,8 +2,10 @@ package my.finances;
 
 import org.springframework.boot.SpringApplication;
 import org.springframework.boot.autoconfigure.SpringBootApplication;
+import org.springframework.scheduling.annotation.EnableScheduling;
 
 @SpringBootApplication
+@EnableScheduling
 public class MyFinancesBackendApplication {
     public static void main(String[] args) {
         SpringApplication.run(MyFinancesBackendApplication.class, args);
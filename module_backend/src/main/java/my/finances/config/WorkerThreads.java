@@ -0,0 +1,29 @@
+package my.finances.config;
+
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Component;
+
+import java.util.concurrent.ThreadFactory;
+import java.util.concurrent.atomic.AtomicInteger;
+
+@Component
+public class WorkerThreads {
+
+    private final boolean virtual;
+
+    public WorkerThreads(@Value("${finance.threads.virtual:false}") boolean virtual) {
+        this.virtual = virtual;
+    }
+
+    public ThreadFactory factory(String prefix) {
+        if (virtual) {
+            return Thread.ofVirtual().name(prefix, 1).factory();
+        }
+        AtomicInteger count = new AtomicInteger();
+        return r -> {
+            Thread thread = new Thread(r, prefix + count.incrementAndGet());
+            thread.setDaemon(true);
+            return thread;
+        };
+    }
+}
@@ -3,12 +3,19 @@ package my.finances.controller;
 import lombok.AllArgsConstructor;
 import my.finances.dto.AccountShortInfo;
 import my.finances.dto.AccountWithTransactionsDTO;
+import my.finances.dto.BalanceSnapshot;
+import my.finances.dto.CursorPage;
+import my.finances.dto.RollupTotal;
 import my.finances.facade.AccountFacade;
 import my.finances.persistence.entity.Account;
+import my.finances.persistence.types.RollupPeriod;
+import org.springframework.format.annotation.DateTimeFormat;
 import org.springframework.http.ResponseEntity;
 import org.springframework.web.bind.annotation.*;
 
-import java.util.Collection;
+import java.time.LocalDate;
+import java.util.Date;
+import java.util.List;
 
 @RestController
 @AllArgsConstructor
@@ -30,12 +37,39 @@ public class AccountController {
     }
 
     @GetMapping("/{id}")
-    public ResponseEntity<AccountWithTransactionsDTO> findById(@PathVariable Long id) {
-        return ResponseEntity.ok(accountFacade.findById(id));
+    public ResponseEntity<AccountWithTransactionsDTO> findById(
+            @PathVariable Long id,
+            @RequestParam(required = false) String after,
+            @RequestParam(defaultValue = CursorPage.DEFAULT_LIMIT) int limit) {
+        return ResponseEntity.ok(accountFacade.findById(id, after, limit));
+    }
+
+    @GetMapping("/{id}/balance")
+    public ResponseEntity<BalanceSnapshot> findBalanceAt(
+            @PathVariable Long id,
+            @RequestParam(required = false) @DateTimeFormat(iso = DateTimeFormat.ISO.DATE_TIME) Date at) {
+        return ResponseEntity.ok(accountFacade.findBalanceAt(id, at));
+    }
+
+    @GetMapping("/{id}/rollups")
+    public ResponseEntity<List<RollupTotal>> findRollups(
+            @PathVariable Long id,
+            @RequestParam(defaultValue = "DAY") RollupPeriod period,
+            @RequestParam(required = false) @DateTimeFormat(iso = DateTimeFormat.ISO.DATE) LocalDate from,
+            @RequestParam(required = false) @DateTimeFormat(iso = DateTimeFormat.ISO.DATE) LocalDate to) {
+        return ResponseEntity.ok(accountFacade.findRollups(id, period, from, to));
+    }
+
+    @PostMapping("/rollups/rebuild")
+    public ResponseEntity<Integer> rebuildRollups() {
+        return ResponseEntity.ok(accountFacade.rebuildRollups());
     }
 
     @GetMapping
-    public ResponseEntity<Collection<AccountShortInfo>> findAll() {
-        return ResponseEntity.ok(accountFacade.findAll());
+    public ResponseEntity<CursorPage<AccountShortInfo>> findAll(
+            @RequestParam(required = false) String after,
+            @RequestParam(required = false) String before,
+            @RequestParam(defaultValue = CursorPage.DEFAULT_LIMIT) int limit) {
+        return ResponseEntity.ok(accountFacade.findAll(after, before, limit));
     }
 }
@@ -0,0 +1,33 @@
+package my.finances.controller;
+
+import lombok.AllArgsConstructor;
+import my.finances.dto.CacheRegionStats;
+import my.finances.facade.CacheFacade;
+import org.springframework.boot.actuate.endpoint.annotation.DeleteOperation;
+import org.springframework.boot.actuate.endpoint.annotation.Endpoint;
+import org.springframework.boot.actuate.endpoint.annotation.ReadOperation;
+import org.springframework.stereotype.Component;
+
+import java.util.List;
+
+/**
+ * Second-level cache statistics and eviction at {@code /actuator/l2cache}. Like every actuator endpoint it is only
+ * reachable over HTTP once listed in {@code management.endpoints.web.exposure.include}, so it stays off the public API.
+ */
+@Component
+@AllArgsConstructor
+@Endpoint(id = "l2cache")
+public class CacheEndpoint {
+
+    private final CacheFacade cacheFacade;
+
+    @ReadOperation
+    public List<CacheRegionStats> findStats() {
+        return cacheFacade.findStats();
+    }
+
+    @DeleteOperation
+    public void evictAll() {
+        cacheFacade.evictAll();
+    }
+}
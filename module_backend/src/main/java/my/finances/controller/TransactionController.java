@@ -1,15 +1,45 @@
 package my.finances.controller;
 
+import jakarta.servlet.http.HttpServletRequest;
+import jakarta.servlet.http.HttpServletResponse;
 import lombok.AllArgsConstructor;
+import my.finances.dto.BatchItemResult;
+import my.finances.dto.CursorPage;
+import my.finances.dto.ExportJobStatus;
+import my.finances.dto.ImportResult;
 import my.finances.dto.TransactionCreatedDTO;
 import my.finances.dto.TransactionDetails;
 import my.finances.dto.TransactionShortInfo;
 import my.finances.facade.TransactionFacade;
+import my.finances.metrics.ExportMetrics;
+import org.apache.catalina.Globals;
+import org.springframework.http.ContentDisposition;
+import org.springframework.http.HttpHeaders;
 import org.springframework.http.HttpStatus;
+import org.springframework.http.MediaType;
 import org.springframework.http.ResponseEntity;
 import org.springframework.web.bind.annotation.*;
+import org.springframework.web.servlet.mvc.method.annotation.StreamingResponseBody;
 
-import java.util.Collection;
+import java.io.BufferedReader;
+import java.io.BufferedWriter;
+import java.io.IOException;
+import java.io.InputStream;
+import java.io.InputStreamReader;
+import java.io.OutputStream;
+import java.io.OutputStreamWriter;
+import java.io.Reader;
+import java.io.Writer;
+import java.nio.channels.Channels;
+import java.nio.channels.FileChannel;
+import java.nio.channels.WritableByteChannel;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.StandardOpenOption;
+import java.util.List;
+import java.util.function.Consumer;
+import java.util.zip.GZIPOutputStream;
 
 @RestController
 @AllArgsConstructor
@@ -17,17 +47,76 @@ import java.util.Collection;
 public class TransactionController {
 
     private final TransactionFacade transactionFacade;
+    private final ExportMetrics exportMetrics;
+    private static final int STREAM_BUFFER_SIZE = 64 * 1024;
+    private static final String DEFAULT_PARALLELISM = "${finance.export.parallelism:1}";
 
     @PostMapping("/export")
-    public ResponseEntity<Boolean> exportAll() {
-        transactionFacade.exportAll();
-        return ResponseEntity.status(HttpStatus.OK).body(true);
+    public ResponseEntity<ExportJobStatus> exportAll(@RequestParam(defaultValue = DEFAULT_PARALLELISM) int parallelism) {
+        return ResponseEntity.status(HttpStatus.ACCEPTED).body(transactionFacade.submitExport(null, parallelism));
     }
 
     @PostMapping("/export/{id}")
-    public ResponseEntity<Boolean> exportAll(@PathVariable Long id) {
-        transactionFacade.exportByAccId(id);
-        return ResponseEntity.status(HttpStatus.OK).body(true);
+    public ResponseEntity<ExportJobStatus> exportAll(@PathVariable Long id,
+                                                     @RequestParam(defaultValue = DEFAULT_PARALLELISM) int parallelism) {
+        return ResponseEntity.status(HttpStatus.ACCEPTED).body(transactionFacade.submitExport(id, parallelism));
+    }
+
+    @GetMapping("/export/jobs/{jobId}")
+    public ResponseEntity<ExportJobStatus> findExport(@PathVariable String jobId) {
+        return ResponseEntity.ok(transactionFacade.findExport(jobId));
+    }
+
+    @DeleteMapping("/export/jobs/{jobId}")
+    public ResponseEntity<ExportJobStatus> cancelExport(@PathVariable String jobId) {
+        return ResponseEntity.ok(transactionFacade.cancelExport(jobId));
+    }
+
+    @GetMapping("/export/jobs/{jobId}/file")
+    public void downloadExport(@PathVariable String jobId, HttpServletRequest request, HttpServletResponse response)
+            throws IOException {
+        Path file = transactionFacade.findExportFile(jobId);
+        long size = Files.size(file);
+        response.setContentType("text/csv");
+        response.setHeader(HttpHeaders.CONTENT_DISPOSITION,
+                ContentDisposition.attachment().filename("Transactions_" + jobId + ".csv").build().toString());
+        response.setContentLengthLong(size);
+        if (Boolean.TRUE.equals(request.getAttribute(Globals.SENDFILE_SUPPORTED_ATTR))) {
+            request.setAttribute(Globals.SENDFILE_FILENAME_ATTR, file.toAbsolutePath().toString());
+            request.setAttribute(Globals.SENDFILE_FILE_START_ATTR, 0L);
+            request.setAttribute(Globals.SENDFILE_FILE_END_ATTR, size);
+            return;
+        }
+        try (FileChannel channel = FileChannel.open(file, StandardOpenOption.READ)) {
+            WritableByteChannel target = Channels.newChannel(response.getOutputStream());
+            long position = 0;
+            while (position < size) {
+                position += channel.transferTo(position, size - position, target);
+            }
+        }
+    }
+
+    @GetMapping("/export")
+    public ResponseEntity<StreamingResponseBody> streamAll(@RequestParam(defaultValue = "false") boolean gzip,
+                                                           @RequestParam(defaultValue = DEFAULT_PARALLELISM) int parallelism) {
+        return streamCSV("Transactions.csv", gzip, out -> transactionFacade.exportAll(parallelism, out));
+    }
+
+    @GetMapping("/export/{id}")
+    public ResponseEntity<StreamingResponseBody> streamAll(@PathVariable Long id,
+                                                           @RequestParam(defaultValue = "false") boolean gzip,
+                                                           @RequestParam(defaultValue = DEFAULT_PARALLELISM) int parallelism) {
+        return streamCSV("Transactions_" + id + ".csv", gzip, out -> transactionFacade.exportByAccId(id, parallelism, out));
+    }
+
+    @GetMapping(value = "/export", params = "format=binary")
+    public ResponseEntity<StreamingResponseBody> streamAllBinary() {
+        return streamBinary("Transactions.mftx", transactionFacade::exportBinaryAll);
+    }
+
+    @GetMapping(value = "/export/{id}", params = "format=binary")
+    public ResponseEntity<StreamingResponseBody> streamAllBinary(@PathVariable Long id) {
+        return streamBinary("Transactions_" + id + ".mftx", out -> transactionFacade.exportBinaryByAccId(id, out));
     }
 
     @PostMapping
@@ -36,13 +125,63 @@ public class TransactionController {
         return ResponseEntity.status(HttpStatus.CREATED).body(true);
     }
 
+    @PostMapping("/batch")
+    public ResponseEntity<List<BatchItemResult>> createBatch(@RequestBody List<TransactionCreatedDTO> transactionDTOs) {
+        return ResponseEntity.ok(transactionFacade.createBatch(transactionDTOs));
+    }
+
+    @PostMapping(value = "/import", consumes = {"text/csv", MediaType.APPLICATION_OCTET_STREAM_VALUE})
+    public ResponseEntity<ImportResult> importTransactions(@RequestParam(required = false) String importKey,
+                                                           InputStream body) {
+        Reader in = new BufferedReader(new InputStreamReader(body, StandardCharsets.UTF_8), STREAM_BUFFER_SIZE);
+        ImportResult result = transactionFacade.importTransactions(importKey, in);
+        return ResponseEntity.status(result.getError() == null ? HttpStatus.OK : HttpStatus.INTERNAL_SERVER_ERROR)
+                .body(result);
+    }
+
+    @GetMapping("/recent")
+    public ResponseEntity<List<TransactionShortInfo>> findRecent(@RequestParam(defaultValue = "20") int limit) {
+        return ResponseEntity.ok(transactionFacade.findRecent(limit));
+    }
+
     @GetMapping("/{id}")
     public ResponseEntity<TransactionDetails> findById(@PathVariable Long id) {
         return ResponseEntity.ok(transactionFacade.findById(id));
     }
 
+    private ResponseEntity<StreamingResponseBody> streamCSV(String fileName, boolean gzip, Consumer<Writer> export) {
+        StreamingResponseBody body = response -> {
+            OutputStream outputStream = exportMetrics.counting(ExportMetrics.CSV, response);
+            OutputStream stream = gzip ? new GZIPOutputStream(outputStream, STREAM_BUFFER_SIZE) : outputStream;
+            Writer out = new BufferedWriter(new OutputStreamWriter(stream, StandardCharsets.UTF_8), STREAM_BUFFER_SIZE);
+            export.accept(out);
+            out.flush();
+            if (stream instanceof GZIPOutputStream gzipStream) {
+                gzipStream.finish();
+            }
+        };
+        ResponseEntity.BodyBuilder response = ResponseEntity.ok()
+                .contentType(new MediaType("text", "csv", StandardCharsets.UTF_8))
+                .header(HttpHeaders.CONTENT_DISPOSITION, ContentDisposition.attachment().filename(fileName).build().toString());
+        if (gzip) {
+            response.header(HttpHeaders.CONTENT_ENCODING, "gzip");
+        }
+        return response.body(body);
+    }
+
+    private ResponseEntity<StreamingResponseBody> streamBinary(String fileName, Consumer<OutputStream> export) {
+        StreamingResponseBody body = response -> export.accept(exportMetrics.counting(ExportMetrics.BINARY, response));
+        return ResponseEntity.ok()
+                .contentType(MediaType.APPLICATION_OCTET_STREAM)
+                .header(HttpHeaders.CONTENT_DISPOSITION, ContentDisposition.attachment().filename(fileName).build().toString())
+                .body(body);
+    }
+
     @GetMapping
-    public ResponseEntity<Collection<TransactionShortInfo>> findAll() {
-        return ResponseEntity.ok(transactionFacade.findAll());
+    public ResponseEntity<CursorPage<TransactionShortInfo>> findAll(
+            @RequestParam(required = false) String after,
+            @RequestParam(required = false) String before,
+            @RequestParam(defaultValue = CursorPage.DEFAULT_LIMIT) int limit) {
+        return ResponseEntity.ok(transactionFacade.findAll(after, before, limit));
     }
 }
@@ -1,6 +1,8 @@
 package my.finances.controller;
 
 import lombok.AllArgsConstructor;
+import my.finances.dto.CursorPage;
+import my.finances.dto.RollupTotal;
 import my.finances.dto.UserCreatedDTO;
 import my.finances.dto.UserDetails;
 import my.finances.dto.UserWithAccountNumberDTO;
@@ -8,11 +10,14 @@ import my.finances.facade.AccountFacade;
 import my.finances.facade.UserFacade;
 import my.finances.persistence.entity.Account;
 import my.finances.persistence.entity.User;
+import my.finances.persistence.types.RollupPeriod;
+import org.springframework.format.annotation.DateTimeFormat;
 import org.springframework.http.HttpStatus;
 import org.springframework.http.ResponseEntity;
 import org.springframework.web.bind.annotation.*;
 
-import java.util.Collection;
+import java.time.LocalDate;
+import java.util.List;
 
 @RestController
 @AllArgsConstructor
@@ -51,8 +56,20 @@ public class UserController {
         return ResponseEntity.ok(true);
     }
 
+    @GetMapping("/{id}/rollups")
+    public ResponseEntity<List<RollupTotal>> findRollups(
+            @PathVariable Long id,
+            @RequestParam(defaultValue = "DAY") RollupPeriod period,
+            @RequestParam(required = false) @DateTimeFormat(iso = DateTimeFormat.ISO.DATE) LocalDate from,
+            @RequestParam(required = false) @DateTimeFormat(iso = DateTimeFormat.ISO.DATE) LocalDate to) {
+        return ResponseEntity.ok(userFacade.findRollups(id, period, from, to));
+    }
+
     @GetMapping
-    public ResponseEntity<Collection<UserWithAccountNumberDTO>> findAllUsersWithNumberOfAccount() {
-        return ResponseEntity.ok(userFacade.findAllUsersWithNumberOfAccount());
+    public ResponseEntity<CursorPage<UserWithAccountNumberDTO>> findAllUsersWithNumberOfAccount(
+            @RequestParam(required = false) String after,
+            @RequestParam(required = false) String before,
+            @RequestParam(defaultValue = CursorPage.DEFAULT_LIMIT) int limit) {
+        return ResponseEntity.ok(userFacade.findAllUsersWithNumberOfAccount(after, before, limit));
     }
 }
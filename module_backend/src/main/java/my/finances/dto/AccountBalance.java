@@ -0,0 +1,4 @@
+package my.finances.dto;
+
+public record AccountBalance(Long id, Integer balance, String ownerName) {
+}
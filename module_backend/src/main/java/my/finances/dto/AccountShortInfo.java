@@ -20,4 +20,13 @@ public class AccountShortInfo {
         this.transactionNumber = number;
         this.owner = account.getOwner().getFirstName() + " " + account.getOwner().getLastName();
     }
+
+    public AccountShortInfo(Long id, Integer balance, String name, Long transactionNumber,
+                            String ownerFirstName, String ownerLastName) {
+        this.id = id;
+        this.balance = balance;
+        this.name = name;
+        this.transactionNumber = transactionNumber.intValue();
+        this.owner = ownerFirstName + " " + ownerLastName;
+    }
 }
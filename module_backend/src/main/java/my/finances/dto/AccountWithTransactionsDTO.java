@@ -2,7 +2,6 @@ package my.finances.dto;
 
 import lombok.Getter;
 import lombok.Setter;
-import my.finances.persistence.entity.Account;
 
 import java.util.Collection;
 import java.util.Date;
@@ -16,13 +15,19 @@ public class AccountWithTransactionsDTO {
     private String name;
     private Long userId;
     private Collection<TransactionShortInfo> transactions;
+    private String next;
 
-    public AccountWithTransactionsDTO(Account account, Collection<TransactionShortInfo> transactions) {
-        this.accId = account.getId();
-        this.accCreated = account.getCreated();
-        this.balance = account.getBalance();
-        this.name = account.getName();
-        this.userId = account.getOwner().getId();
-        this.transactions = transactions;
+    public AccountWithTransactionsDTO(Long accId, Date accCreated, Integer balance, String name, Long userId) {
+        this.accId = accId;
+        this.accCreated = accCreated;
+        this.balance = balance;
+        this.name = name;
+        this.userId = userId;
+    }
+
+    public AccountWithTransactionsDTO withTransactions(CursorPage<TransactionShortInfo> transactions) {
+        this.transactions = transactions.items();
+        this.next = transactions.next();
+        return this;
     }
 }
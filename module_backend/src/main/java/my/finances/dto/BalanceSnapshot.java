@@ -0,0 +1,6 @@
+package my.finances.dto;
+
+import java.util.Date;
+
+public record BalanceSnapshot(long accountId, Date at, int balance) {
+}
@@ -0,0 +1,14 @@
+package my.finances.dto;
+
+import com.fasterxml.jackson.annotation.JsonIgnore;
+import my.finances.metrics.TransferOutcome;
+
+public record BatchItemResult(int index, boolean success, String error, @JsonIgnore TransferOutcome outcome) {
+    public static BatchItemResult succeeded(int index) {
+        return new BatchItemResult(index, true, null, TransferOutcome.SUCCESS);
+    }
+
+    public static BatchItemResult failed(int index, RuntimeException exception) {
+        return new BatchItemResult(index, false, exception.getMessage(), TransferOutcome.of(exception));
+    }
+}
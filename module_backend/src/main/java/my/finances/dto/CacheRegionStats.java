@@ -0,0 +1,4 @@
+package my.finances.dto;
+
+public record CacheRegionStats(String region, long hits, long misses, long puts, double hitRatio) {
+}
@@ -0,0 +1,79 @@
+package my.finances.dto;
+
+import my.finances.exception.InvalidDataException;
+import org.springframework.data.domain.PageRequest;
+import org.springframework.data.domain.Pageable;
+
+import java.nio.charset.StandardCharsets;
+import java.util.ArrayList;
+import java.util.Base64;
+import java.util.Collection;
+import java.util.Collections;
+import java.util.List;
+import java.util.function.LongPredicate;
+import java.util.function.ToLongFunction;
+
+public record CursorPage<T>(Collection<T> items, String next, String prev) {
+    public static final String DEFAULT_LIMIT = "100";
+    public static final int MAX_LIMIT = 1000;
+
+    public static long decode(String cursor) {
+        if (cursor == null || cursor.isEmpty()) {
+            return 0;
+        }
+        try {
+            return Long.parseLong(new String(Base64.getUrlDecoder().decode(cursor), StandardCharsets.UTF_8));
+        } catch (IllegalArgumentException e) {
+            throw new InvalidDataException("Invalid cursor");
+        }
+    }
+
+    public static String encode(long id) {
+        return Base64.getUrlEncoder().withoutPadding().encodeToString(Long.toString(id).getBytes(StandardCharsets.UTF_8));
+    }
+
+    public static Pageable request(int limit) {
+        if (limit <= 0 || limit > MAX_LIMIT) {
+            throw new InvalidDataException("Limit must be between 1 and " + MAX_LIMIT);
+        }
+        return PageRequest.of(0, limit + 1);
+    }
+
+    public static boolean isBackward(String after, String before) {
+        if (after != null && before != null) {
+            throw new InvalidDataException("Use either after or before");
+        }
+        return before != null;
+    }
+
+    public static <T> CursorPage<T> of(List<T> rows, int limit, ToLongFunction<T> id) {
+        return after(rows, null, limit, id, first -> false);
+    }
+
+    /**
+     * Builds a forward page. {@code existsBefore} is only asked when the request carried a cursor, so first pages
+     * cost no extra query, and a cursor that points below the smallest id yields no dead "previous" link.
+     */
+    public static <T> CursorPage<T> after(List<T> rows, String after, int limit, ToLongFunction<T> id,
+                                          LongPredicate existsBefore) {
+        List<T> items = rows.size() > limit ? rows.subList(0, limit) : rows;
+        String next = rows.size() > limit ? encode(id.applyAsLong(items.get(limit - 1))) : null;
+        String prev = null;
+        if (decode(after) > 0 && !items.isEmpty()) {
+            long first = id.applyAsLong(items.get(0));
+            prev = existsBefore.test(first) ? encode(first) : null;
+        }
+        return new CursorPage<>(items, next, prev);
+    }
+
+    public static <T> CursorPage<T> before(List<T> rowsDescending, int limit, ToLongFunction<T> id) {
+        List<T> items = new ArrayList<>(rowsDescending.subList(0, Math.min(limit, rowsDescending.size())));
+        Collections.reverse(items);
+        if (items.isEmpty()) {
+            return new CursorPage<>(items, null, null);
+        }
+        String next = encode(id.applyAsLong(items.get(items.size() - 1)));
+        String prev = rowsDescending.size() > limit ? encode(id.applyAsLong(items.get(0))) : null;
+        return new CursorPage<>(items, next, prev);
+    }
+}
@@ -0,0 +1,22 @@
+package my.finances.dto;
+
+import lombok.Getter;
+import lombok.Setter;
+
+import java.util.Date;
+
+@Getter
+@Setter
+public class ExportJobStatus {
+    private String jobId;
+    private Long accountId;
+    private String state;
+    private Date created;
+    private Date started;
+    private Date finished;
+    private long rowsWritten;
+    private long totalRows;
+    private long bytesWritten;
+    private Long etaSeconds;
+    private String error;
+}
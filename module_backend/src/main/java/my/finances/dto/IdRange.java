@@ -0,0 +1,7 @@
+package my.finances.dto;
+
+public record IdRange(Long min, Long max) {
+    public boolean isEmpty() {
+        return min == null || max == null;
+    }
+}
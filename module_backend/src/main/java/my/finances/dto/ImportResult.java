@@ -0,0 +1,32 @@
+package my.finances.dto;
+
+import lombok.Getter;
+import lombok.Setter;
+import my.finances.persistence.entity.ImportCheckpoint;
+
+import java.util.List;
+
+@Getter
+@Setter
+public class ImportResult {
+    private String importKey;
+    private long resumedFrom;
+    private long lastRow;
+    private long rowsImported;
+    private long rowsRejected;
+    private boolean completed;
+    private long rowsPerSecond;
+    private String error;
+    private List<String> rejections;
+
+    public ImportResult(ImportCheckpoint checkpoint, long resumedFrom, long rowsPerSecond, List<String> rejections) {
+        this.importKey = checkpoint.getImportKey();
+        this.resumedFrom = resumedFrom;
+        this.lastRow = checkpoint.getLastRow();
+        this.rowsImported = checkpoint.getRowsImported();
+        this.rowsRejected = checkpoint.getRowsRejected();
+        this.completed = checkpoint.isCompleted();
+        this.rowsPerSecond = rowsPerSecond;
+        this.rejections = rejections;
+    }
+}
@@ -0,0 +1,6 @@
+package my.finances.dto;
+
+import java.time.LocalDate;
+
+public record RollupTotal(LocalDate periodStart, Long expense, Long profit) {
+}
@@ -3,6 +3,7 @@ package my.finances.dto;
 import lombok.Getter;
 import lombok.Setter;
 import my.finances.persistence.entity.Transaction;
+import my.finances.persistence.types.TransactionType;
 
 import java.util.Date;
 
@@ -24,4 +25,14 @@ public class TransactionDetails extends TransactionShortInfo {
         this.ownerName = transaction.getAccount().getOwner().getFirstName()
                 + " " + transaction.getAccount().getOwner().getLastName();
     }
+
+    public TransactionDetails(Long id, Integer amount, TransactionType type, String accName, Date created,
+                              String description, Long accId, Long ownerId, String ownerFirstName, String ownerLastName) {
+        super(id, amount, type, accName);
+        this.created = created;
+        this.description = description;
+        this.accId = accId;
+        this.ownerId = ownerId;
+        this.ownerName = ownerFirstName + " " + ownerLastName;
+    }
 }
@@ -3,6 +3,7 @@ package my.finances.dto;
 import lombok.Getter;
 import lombok.Setter;
 import my.finances.persistence.entity.Transaction;
+import my.finances.persistence.types.TransactionType;
 
 @Getter
 @Setter
@@ -18,4 +19,11 @@ public class TransactionShortInfo {
         this.type = transaction.getTransactionType().toString();
         this.accName = transaction.getAccount().getName();
     }
+
+    public TransactionShortInfo(Long id, Integer amount, TransactionType type, String accName) {
+        this.id = id;
+        this.amount = amount;
+        this.type = type.toString();
+        this.accName = accName;
+    }
 }
@@ -1,8 +1,6 @@
 package my.finances.dto;
 
-import my.finances.persistence.entity.User;
-
 import java.util.Collection;
 
-public record UserDetails(User user, Collection<AccountShortInfo> accounts) {
+public record UserDetails(UserInfo user, Collection<AccountShortInfo> accounts) {
 }
@@ -0,0 +1,11 @@
+package my.finances.dto;
+
+import my.finances.persistence.entity.User;
+
+import java.util.Date;
+
+public record UserInfo(Long id, Date created, String firstName, String lastName) {
+    public UserInfo(User user) {
+        this(user.getId(), user.getCreated(), user.getFirstName(), user.getLastName());
+    }
+}
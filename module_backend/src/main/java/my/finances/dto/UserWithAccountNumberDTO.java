@@ -1,6 +1,9 @@
 package my.finances.dto;
 
-import my.finances.persistence.entity.User;
+import java.util.Date;
 
-public record UserWithAccountNumberDTO(User user, int number) {
+public record UserWithAccountNumberDTO(UserInfo user, int number) {
+    public UserWithAccountNumberDTO(Long id, Date created, String firstName, String lastName, Long number) {
+        this(new UserInfo(id, created, firstName, lastName), number.intValue());
+    }
 }
@@ -0,0 +1,4 @@
+package my.finances.event;
+
+public record AccountChangedEvent(long accountId) {
+}
@@ -0,0 +1,7 @@
+package my.finances.exception;
+
+public class ImportInProgressException extends InvalidDataException {
+    public ImportInProgressException(String importKey) {
+        super("Import " + importKey + " is already running");
+    }
+}
@@ -0,0 +1,7 @@
+package my.finances.exception;
+
+public class InsufficientFundsException extends InvalidDataException {
+    public InsufficientFundsException() {
+        super("Insufficient funds");
+    }
+}
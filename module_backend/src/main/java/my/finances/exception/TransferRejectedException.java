@@ -0,0 +1,13 @@
+package my.finances.exception;
+
+import java.util.concurrent.RejectedExecutionException;
+
+public class TransferRejectedException extends RejectedExecutionException {
+    public TransferRejectedException(String message) {
+        super(message);
+    }
+
+    public TransferRejectedException(String message, Throwable cause) {
+        super(message, cause);
+    }
+}
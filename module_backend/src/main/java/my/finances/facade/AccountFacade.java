@@ -2,12 +2,21 @@ package my.finances.facade;
 
 import my.finances.dto.AccountShortInfo;
 import my.finances.dto.AccountWithTransactionsDTO;
+import my.finances.dto.BalanceSnapshot;
+import my.finances.dto.CursorPage;
+import my.finances.dto.RollupTotal;
 import my.finances.persistence.entity.Account;
+import my.finances.persistence.types.RollupPeriod;
 
-import java.util.Collection;
+import java.time.LocalDate;
+import java.util.Date;
+import java.util.List;
 
 public interface AccountFacade extends MutableEntityFacade<Account> {
     void create(Account entity, Long ownerId);
-    AccountWithTransactionsDTO findById(long id);
-    Collection<AccountShortInfo> findAll();
+    AccountWithTransactionsDTO findById(long id, String after, int limit);
+    CursorPage<AccountShortInfo> findAll(String after, String before, int limit);
+    BalanceSnapshot findBalanceAt(long id, Date at);
+    List<RollupTotal> findRollups(long id, RollupPeriod period, LocalDate from, LocalDate to);
+    int rebuildRollups();
 }
@@ -0,0 +1,10 @@
+package my.finances.facade;
+
+import my.finances.dto.CacheRegionStats;
+
+import java.util.List;
+
+public interface CacheFacade {
+    List<CacheRegionStats> findStats();
+    void evictAll();
+}
@@ -3,14 +3,21 @@ package my.finances.facade.Impl;
 import lombok.AllArgsConstructor;
 import my.finances.dto.AccountShortInfo;
 import my.finances.dto.AccountWithTransactionsDTO;
+import my.finances.dto.BalanceSnapshot;
+import my.finances.dto.CursorPage;
+import my.finances.dto.RollupTotal;
 import my.finances.dto.TransactionShortInfo;
 import my.finances.facade.AccountFacade;
 import my.finances.persistence.entity.Account;
+import my.finances.persistence.types.RollupPeriod;
 import my.finances.service.AccountService;
+import my.finances.service.RollupService;
 import my.finances.service.TransactionService;
 import org.springframework.stereotype.Service;
 
-import java.util.Collection;
+import java.time.LocalDate;
+import java.util.Date;
+import java.util.List;
 
 @Service
 @AllArgsConstructor
@@ -18,13 +25,24 @@ public class AccountFacadeImpl implements AccountFacade {
 
     private final AccountService accountService;
     private final TransactionService transactionService;
+    private final RollupService rollupService;
 
     @Override
-    public Collection<AccountShortInfo> findAll() {
-        return accountService.findAll()
-                .stream()
-                .map(e -> new AccountShortInfo(e, transactionService.findAllByAccountId(e.getId()).size()))
-                .toList();
+    public CursorPage<AccountShortInfo> findAll(String after, String before, int limit) {
+        if (CursorPage.isBackward(after, before)) {
+            return CursorPage.before(
+                    accountService.findAllWithTransactionNumberBefore(CursorPage.decode(before), CursorPage.request(limit)),
+                    limit,
+                    AccountShortInfo::getId
+            );
+        }
+        return CursorPage.after(
+                accountService.findAllWithTransactionNumber(CursorPage.decode(after), CursorPage.request(limit)),
+                after,
+                limit,
+                AccountShortInfo::getId,
+                accountService::existsBefore
+        );
     }
 
     @Override
@@ -33,16 +51,32 @@ public class AccountFacadeImpl implements AccountFacade {
     }
 
     @Override
-    public AccountWithTransactionsDTO findById(long id) {
-        return new AccountWithTransactionsDTO(
-                accountService.findById(id),
-                transactionService.findAllByAccountId(id)
-                        .stream()
-                        .map(TransactionShortInfo::new)
-                        .toList()
+    public AccountWithTransactionsDTO findById(long id, String after, int limit) {
+        return accountService.findDetailsById(id).withTransactions(
+                CursorPage.of(
+                        transactionService.findAllShortInfoByAccountIdAfter(id, CursorPage.decode(after), CursorPage.request(limit)),
+                        limit,
+                        TransactionShortInfo::getId
+                )
         );
     }
 
+    @Override
+    public BalanceSnapshot findBalanceAt(long id, Date at) {
+        Date moment = at != null ? at : new Date();
+        return new BalanceSnapshot(id, moment, accountService.findBalanceAt(id, moment));
+    }
+
+    @Override
+    public List<RollupTotal> findRollups(long id, RollupPeriod period, LocalDate from, LocalDate to) {
+        return rollupService.findByAccountId(id, period, from, to);
+    }
+
+    @Override
+    public int rebuildRollups() {
+        return rollupService.rebuildAll();
+    }
+
     @Override
     public void update(Account entity, long id) {
         accountService.update(entity, id);
@@ -0,0 +1,26 @@
+package my.finances.facade.Impl;
+
+import lombok.AllArgsConstructor;
+import my.finances.dto.CacheRegionStats;
+import my.finances.facade.CacheFacade;
+import my.finances.service.CacheService;
+import org.springframework.stereotype.Service;
+
+import java.util.List;
+
+@Service
+@AllArgsConstructor
+public class CacheFacadeImpl implements CacheFacade {
+
+    private final CacheService cacheService;
+
+    @Override
+    public List<CacheRegionStats> findStats() {
+        return cacheService.findStats();
+    }
+
+    @Override
+    public void evictAll() {
+        cacheService.evictAll();
+    }
+}
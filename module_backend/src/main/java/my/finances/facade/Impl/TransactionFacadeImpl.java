@@ -1,46 +1,141 @@
 package my.finances.facade.Impl;
 
 import lombok.AllArgsConstructor;
+import my.finances.dto.BatchItemResult;
+import my.finances.dto.CursorPage;
+import my.finances.dto.ExportJobStatus;
+import my.finances.dto.ImportResult;
 import my.finances.dto.TransactionCreatedDTO;
 import my.finances.dto.TransactionDetails;
 import my.finances.dto.TransactionShortInfo;
+import my.finances.exception.InvalidDataException;
 import my.finances.facade.TransactionFacade;
+import my.finances.service.ExportJobService;
+import my.finances.service.ImportService;
 import my.finances.service.TransactionService;
+import my.finances.service.export.ExportJob;
+import my.finances.service.export.ExportJobState;
+import org.springframework.data.domain.PageRequest;
 import org.springframework.stereotype.Service;
 
-import java.util.Collection;
+import java.io.OutputStream;
+import java.io.Reader;
+import java.io.Writer;
+import java.nio.file.Path;
+import java.util.List;
 
 @Service
 @AllArgsConstructor
 public class TransactionFacadeImpl implements TransactionFacade {
 
     private final TransactionService transactionService;
+    private final ExportJobService exportJobService;
+    private final ImportService importService;
 
     @Override
     public void create(TransactionCreatedDTO transactionDTO) {
         transactionService.create(transactionDTO);
     }
 
+    @Override
+    public List<BatchItemResult> createBatch(List<TransactionCreatedDTO> transactionDTOs) {
+        return transactionService.createBatch(transactionDTOs);
+    }
+
+    @Override
+    public ImportResult importTransactions(String importKey, Reader in) {
+        return importService.importTransactions(importKey, in);
+    }
+
+    @Override
+    public List<TransactionShortInfo> findRecent(int limit) {
+        if (limit <= 0 || limit > CursorPage.MAX_LIMIT) {
+            throw new InvalidDataException("Limit must be between 1 and " + CursorPage.MAX_LIMIT);
+        }
+        return transactionService.findRecentShortInfo(PageRequest.of(0, limit));
+    }
+
     @Override
     public TransactionDetails findById(long id) {
-        return new TransactionDetails(transactionService.findById(id));
+        return transactionService.findDetailsById(id);
+    }
+
+    @Override
+    public void exportByAccId(long id, int parallelism, Writer out) {
+        transactionService.exportByAccId(id, parallelism, out);
+    }
+
+    @Override
+    public void exportAll(int parallelism, Writer out) {
+        transactionService.exportAll(parallelism, out);
     }
 
     @Override
-    public void exportByAccId(long id) {
-        transactionService.exportByAccId(id);
+    public void exportBinaryByAccId(long id, OutputStream out) {
+        transactionService.exportBinaryByAccId(id, out);
     }
 
     @Override
-    public void exportAll() {
-        transactionService.exportAll();
+    public void exportBinaryAll(OutputStream out) {
+        transactionService.exportBinaryAll(out);
     }
 
     @Override
-    public Collection<TransactionShortInfo> findAll() {
-        return transactionService.findAll()
-                .stream()
-                .map(TransactionShortInfo::new)
-                .toList();
+    public ExportJobStatus submitExport(Long accountId, int parallelism) {
+        return toStatus(exportJobService.submit(accountId, parallelism));
+    }
+
+    @Override
+    public ExportJobStatus findExport(String jobId) {
+        return toStatus(exportJobService.findById(jobId));
+    }
+
+    @Override
+    public ExportJobStatus cancelExport(String jobId) {
+        return toStatus(exportJobService.cancel(jobId));
+    }
+
+    @Override
+    public Path findExportFile(String jobId) {
+        return exportJobService.findFile(jobId);
+    }
+
+    @Override
+    public CursorPage<TransactionShortInfo> findAll(String after, String before, int limit) {
+        if (CursorPage.isBackward(after, before)) {
+            return CursorPage.before(
+                    transactionService.findAllShortInfoBefore(CursorPage.decode(before), CursorPage.request(limit)),
+                    limit,
+                    TransactionShortInfo::getId
+            );
+        }
+        return CursorPage.after(
+                transactionService.findAllShortInfoAfter(CursorPage.decode(after), CursorPage.request(limit)),
+                after,
+                limit,
+                TransactionShortInfo::getId,
+                transactionService::existsBefore
+        );
+    }
+
+    private static ExportJobStatus toStatus(ExportJob job) {
+        ExportJobState state = job.getState();
+        ExportJobStatus status = new ExportJobStatus();
+        status.setJobId(job.getId());
+        status.setAccountId(job.getAccountId());
+        status.setState(state.name());
+        status.setCreated(job.getCreated());
+        status.setStarted(job.getStarted());
+        status.setFinished(job.getFinished());
+        status.setRowsWritten(job.getRowsWritten().get());
+        status.setTotalRows(job.getTotalRows());
+        status.setBytesWritten(job.getBytesWritten().get());
+        status.setError(job.getError());
+        if (state == ExportJobState.RUNNING && status.getStarted() != null
+                && status.getRowsWritten() > 0 && status.getTotalRows() >= status.getRowsWritten()) {
+            long elapsed = System.currentTimeMillis() - status.getStarted().getTime();
+            status.setEtaSeconds(elapsed * (status.getTotalRows() - status.getRowsWritten()) / status.getRowsWritten() / 1000);
+        }
+        return status;
     }
 }
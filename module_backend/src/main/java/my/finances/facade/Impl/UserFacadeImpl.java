@@ -1,18 +1,22 @@
 package my.finances.facade.Impl;
 
 import lombok.AllArgsConstructor;
-import my.finances.dto.AccountShortInfo;
+import my.finances.dto.CursorPage;
+import my.finances.dto.RollupTotal;
 import my.finances.dto.UserCreatedDTO;
 import my.finances.dto.UserDetails;
 import my.finances.dto.UserWithAccountNumberDTO;
 import my.finances.facade.UserFacade;
 import my.finances.persistence.entity.User;
+import my.finances.persistence.types.RollupPeriod;
 import my.finances.service.AccountService;
-import my.finances.service.TransactionService;
+import my.finances.service.RollupService;
 import my.finances.service.UserService;
 import org.springframework.stereotype.Service;
 
+import java.time.LocalDate;
 import java.util.Collection;
+import java.util.List;
 
 @Service
 @AllArgsConstructor
@@ -20,7 +24,7 @@ public class UserFacadeImpl implements UserFacade {
 
     private final UserService userService;
     private final AccountService accountService;
-    private final TransactionService transactionService;
+    private final RollupService rollupService;
 
     @Override
     public void create(UserCreatedDTO entity) {
@@ -30,14 +34,16 @@ public class UserFacadeImpl implements UserFacade {
     @Override
     public UserDetails findById(long id) {
         return new UserDetails(
-                userService.findById(id),
-                accountService.findByUserId(id)
-                        .stream()
-                        .map(e -> new AccountShortInfo(e, transactionService.findAllByAccountId(e.getId()).size()))
-                        .toList()
+                userService.findInfoById(id),
+                accountService.findAllWithTransactionNumberByUserId(id)
         );
     }
 
+    @Override
+    public List<RollupTotal> findRollups(long id, RollupPeriod period, LocalDate from, LocalDate to) {
+        return rollupService.findByUserId(id, period, from, to);
+    }
+
     @Override
     public void update(User entity, long id) {
         userService.update(entity, id);
@@ -54,10 +60,20 @@ public class UserFacadeImpl implements UserFacade {
     }
 
     @Override
-    public Collection<UserWithAccountNumberDTO> findAllUsersWithNumberOfAccount() {
-        return userService.findAll()
-                .stream()
-                .map(e -> new UserWithAccountNumberDTO(e, accountService.findByUserId(e.getId()).size()))
-                .toList();
+    public CursorPage<UserWithAccountNumberDTO> findAllUsersWithNumberOfAccount(String after, String before, int limit) {
+        if (CursorPage.isBackward(after, before)) {
+            return CursorPage.before(
+                    userService.findAllWithNumberOfAccountsBefore(CursorPage.decode(before), CursorPage.request(limit)),
+                    limit,
+                    e -> e.user().id()
+            );
+        }
+        return CursorPage.after(
+                userService.findAllWithNumberOfAccounts(CursorPage.decode(after), CursorPage.request(limit)),
+                after,
+                limit,
+                e -> e.user().id(),
+                userService::existsBefore
+        );
     }
 }
@@ -1,15 +1,32 @@
 package my.finances.facade;
 
+import my.finances.dto.BatchItemResult;
+import my.finances.dto.CursorPage;
+import my.finances.dto.ExportJobStatus;
+import my.finances.dto.ImportResult;
 import my.finances.dto.TransactionCreatedDTO;
 import my.finances.dto.TransactionDetails;
 import my.finances.dto.TransactionShortInfo;
 
-import java.util.Collection;
+import java.io.OutputStream;
+import java.io.Reader;
+import java.io.Writer;
+import java.nio.file.Path;
+import java.util.List;
 
 public interface TransactionFacade {
     void create(TransactionCreatedDTO transactionDTO);
-    Collection<TransactionShortInfo> findAll();
+    List<BatchItemResult> createBatch(List<TransactionCreatedDTO> transactionDTOs);
+    ImportResult importTransactions(String importKey, Reader in);
+    CursorPage<TransactionShortInfo> findAll(String after, String before, int limit);
+    List<TransactionShortInfo> findRecent(int limit);
     TransactionDetails findById(long id);
-    void exportByAccId(long id);
-    void exportAll();
+    void exportByAccId(long id, int parallelism, Writer out);
+    void exportAll(int parallelism, Writer out);
+    void exportBinaryByAccId(long id, OutputStream out);
+    void exportBinaryAll(OutputStream out);
+    ExportJobStatus submitExport(Long accountId, int parallelism);
+    ExportJobStatus findExport(String jobId);
+    ExportJobStatus cancelExport(String jobId);
+    Path findExportFile(String jobId);
 }
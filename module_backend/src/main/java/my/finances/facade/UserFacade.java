@@ -1,15 +1,21 @@
 package my.finances.facade;
 
+import my.finances.dto.CursorPage;
+import my.finances.dto.RollupTotal;
 import my.finances.dto.UserCreatedDTO;
 import my.finances.dto.UserDetails;
 import my.finances.dto.UserWithAccountNumberDTO;
 import my.finances.persistence.entity.User;
+import my.finances.persistence.types.RollupPeriod;
 
+import java.time.LocalDate;
 import java.util.Collection;
+import java.util.List;
 
 public interface UserFacade extends MutableEntityFacade<User> {
     void create(UserCreatedDTO entity);
     UserDetails findById(long id);
     Collection<User> findAll();
-    Collection<UserWithAccountNumberDTO> findAllUsersWithNumberOfAccount();
+    CursorPage<UserWithAccountNumberDTO> findAllUsersWithNumberOfAccount(String after, String before, int limit);
+    List<RollupTotal> findRollups(long id, RollupPeriod period, LocalDate from, LocalDate to);
 }
@@ -2,11 +2,14 @@ package my.finances.handler;
 
 import jakarta.persistence.EntityNotFoundException;
 import my.finances.exception.InvalidDataException;
+import my.finances.exception.TransferRejectedException;
 import org.springframework.http.HttpStatus;
 import org.springframework.http.ResponseEntity;
 import org.springframework.web.bind.annotation.ExceptionHandler;
 import org.springframework.web.bind.annotation.RestControllerAdvice;
 
+import java.util.concurrent.RejectedExecutionException;
+
 @RestControllerAdvice
 public class ApiExceptionHandler {
 
@@ -20,6 +23,16 @@ public class ApiExceptionHandler {
         return ResponseEntity.status(HttpStatus.BAD_REQUEST).body(exception.getMessage());
     }
 
+    @ExceptionHandler({RejectedExecutionException.class})
+    public ResponseEntity<String> handleRejectedExecutionException(RejectedExecutionException exception) {
+        return ResponseEntity.status(HttpStatus.SERVICE_UNAVAILABLE).body("Too many jobs, try again later");
+    }
+
+    @ExceptionHandler({TransferRejectedException.class})
+    public ResponseEntity<String> handleTransferRejectedException(TransferRejectedException exception) {
+        return ResponseEntity.status(HttpStatus.SERVICE_UNAVAILABLE).body(exception.getMessage());
+    }
+
     @ExceptionHandler({SecurityException.class})
     public ResponseEntity<String> handleSecurityException(SecurityException exception) {
         return ResponseEntity.status(HttpStatus.NO_CONTENT).body(exception.getMessage());
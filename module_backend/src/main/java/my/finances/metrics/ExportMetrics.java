@@ -0,0 +1,62 @@
+package my.finances.metrics;
+
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.MeterRegistry;
+import org.springframework.stereotype.Component;
+
+import java.io.FilterOutputStream;
+import java.io.IOException;
+import java.io.OutputStream;
+
+@Component
+public class ExportMetrics {
+
+    public static final String CSV = "csv";
+    public static final String BINARY = "binary";
+
+    private final MeterRegistry registry;
+
+    public ExportMetrics(MeterRegistry registry) {
+        this.registry = registry;
+    }
+
+    public Counter rows(String format) {
+        return Counter.builder("finance.export.rows")
+                .description("Transactions written by exports")
+                .tag("format", format)
+                .register(registry);
+    }
+
+    public Counter bytes(String format) {
+        return Counter.builder("finance.export.bytes")
+                .description("Bytes written by exports")
+                .baseUnit("bytes")
+                .tag("format", format)
+                .register(registry);
+    }
+
+    public OutputStream counting(String format, OutputStream out) {
+        return new CountingOutputStream(out, bytes(format));
+    }
+
+    private static class CountingOutputStream extends FilterOutputStream {
+        private final Counter bytes;
+
+        CountingOutputStream(OutputStream out, Counter bytes) {
+            super(out);
+            this.bytes = bytes;
+        }
+
+        @Override
+        public void write(int b) throws IOException {
+            out.write(b);
+            bytes.increment();
+        }
+
+        @Override
+        public void write(byte[] b, int off, int len) throws IOException {
+            out.write(b, off, len);
+            bytes.increment(len);
+        }
+    }
+}
@@ -0,0 +1,104 @@
+package my.finances.metrics;
+
+import io.micrometer.core.instrument.DistributionSummary;
+import io.micrometer.core.instrument.MeterRegistry;
+import org.hibernate.BaseSessionEventListener;
+import org.hibernate.cfg.AvailableSettings;
+import org.springframework.boot.autoconfigure.orm.jpa.HibernatePropertiesCustomizer;
+import org.springframework.stereotype.Component;
+
+import java.util.Map;
+
+/**
+ * Records per-session Hibernate work as {@code finance.hibernate.session} summaries. With open-in-view enabled a
+ * session spans one web request, so these are the per-request statement, flush and cache counts; the global
+ * counters come from Hibernate's own {@code hibernate.*} metrics. Hibernate instantiates the listener by class
+ * name, so it reaches the registry through a static reference set when this bean is created.
+ */
+@Component
+public class HibernateSessionMetrics implements HibernatePropertiesCustomizer {
+
+    private static volatile HibernateSessionMetrics current;
+
+    private final DistributionSummary statements;
+    private final DistributionSummary batches;
+    private final DistributionSummary flushes;
+    private final DistributionSummary flushedEntities;
+    private final DistributionSummary cacheHits;
+    private final DistributionSummary cacheMisses;
+
+    public HibernateSessionMetrics(MeterRegistry registry) {
+        this.statements = summary(registry, "statements");
+        this.batches = summary(registry, "batches");
+        this.flushes = summary(registry, "flushes");
+        this.flushedEntities = summary(registry, "flushed_entities");
+        this.cacheHits = summary(registry, "cache_hits");
+        this.cacheMisses = summary(registry, "cache_misses");
+        current = this;
+    }
+
+    @Override
+    public void customize(Map<String, Object> hibernateProperties) {
+        hibernateProperties.put(AvailableSettings.AUTO_SESSION_EVENTS_LISTENER, Listener.class.getName());
+    }
+
+    private static DistributionSummary summary(MeterRegistry registry, String event) {
+        return DistributionSummary.builder("finance.hibernate.session")
+                .description("Hibernate work per session")
+                .tag("event", event)
+                .register(registry);
+    }
+
+    public static class Listener extends BaseSessionEventListener {
+        private int statements;
+        private int batches;
+        private int flushes;
+        private int flushedEntities;
+        private int cacheHits;
+        private int cacheMisses;
+
+        @Override
+        public void jdbcExecuteStatementEnd() {
+            statements++;
+        }
+
+        @Override
+        public void jdbcExecuteBatchEnd() {
+            batches++;
+        }
+
+        @Override
+        public void flushEnd(int numberOfEntities, int numberOfCollections) {
+            flushes++;
+            flushedEntities += numberOfEntities;
+        }
+
+        @Override
+        public void partialFlushEnd(int numberOfEntities, int numberOfCollections) {
+            flushEnd(numberOfEntities, numberOfCollections);
+        }
+
+        @Override
+        public void cacheGetEnd(boolean hit) {
+            if (hit) {
+                cacheHits++;
+            } else {
+                cacheMisses++;
+            }
+        }
+
+        @Override
+        public void end() {
+            HibernateSessionMetrics metrics = current;
+            if (metrics == null) {
+                return;
+            }
+            metrics.statements.record(statements);
+            metrics.batches.record(batches);
+            metrics.flushes.record(flushes);
+            metrics.flushedEntities.record(flushedEntities);
+            metrics.cacheHits.record(cacheHits);
+            metrics.cacheMisses.record(cacheMisses);
+        }
+    }
+}
@@ -0,0 +1,63 @@
+package my.finances.metrics;
+
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.Timer;
+import org.aspectj.lang.ProceedingJoinPoint;
+import org.aspectj.lang.annotation.Around;
+import org.aspectj.lang.annotation.Aspect;
+import org.springframework.stereotype.Component;
+
+/**
+ * Times every public call into the controller, facade, service and JDBC repository layers as
+ * {@code finance.method}, tagged with the layer, class, method and thrown exception. Spring Data repositories are
+ * timed by Spring Boot itself as {@code spring.data.repository.invocations}.
+ */
+@Aspect
+@Component
+public class LayerTimingAspect {
+
+    private final MeterRegistry registry;
+
+    public LayerTimingAspect(MeterRegistry registry) {
+        this.registry = registry;
+    }
+
+    @Around("within(my.finances.controller..*)")
+    public Object timeController(ProceedingJoinPoint joinPoint) throws Throwable {
+        return time("controller", joinPoint);
+    }
+
+    @Around("within(my.finances.facade.Impl..*)")
+    public Object timeFacade(ProceedingJoinPoint joinPoint) throws Throwable {
+        return time("facade", joinPoint);
+    }
+
+    @Around("within(my.finances.service.impl..*)")
+    public Object timeService(ProceedingJoinPoint joinPoint) throws Throwable {
+        return time("service", joinPoint);
+    }
+
+    @Around("within(my.finances.persistence.repository..*)")
+    public Object timeRepository(ProceedingJoinPoint joinPoint) throws Throwable {
+        return time("repository", joinPoint);
+    }
+
+    private Object time(String layer, ProceedingJoinPoint joinPoint) throws Throwable {
+        Timer.Sample sample = Timer.start(registry);
+        String exception = "none";
+        try {
+            return joinPoint.proceed();
+        } catch (Throwable e) {
+            exception = e.getClass().getSimpleName();
+            throw e;
+        } finally {
+            sample.stop(Timer.builder("finance.method")
+                    .description("Method latency by application layer")
+                    .tag("layer", layer)
+                    .tag("class", joinPoint.getSignature().getDeclaringType().getSimpleName())
+                    .tag("method", joinPoint.getSignature().getName())
+                    .tag("exception", exception)
+                    .register(registry));
+        }
+    }
+}
@@ -0,0 +1,33 @@
+package my.finances.metrics;
+
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.MeterRegistry;
+import my.finances.dto.BatchItemResult;
+import org.springframework.stereotype.Component;
+
+import java.util.Collection;
+import java.util.EnumMap;
+import java.util.Map;
+
+@Component
+public class TransferMetrics {
+
+    private final Map<TransferOutcome, Counter> counters = new EnumMap<>(TransferOutcome.class);
+
+    public TransferMetrics(MeterRegistry registry) {
+        for (TransferOutcome outcome : TransferOutcome.values()) {
+            counters.put(outcome, Counter.builder("finance.transfers")
+                    .description("Transfers by outcome")
+                    .tag("outcome", outcome.tag())
+                    .register(registry));
+        }
+    }
+
+    public void record(TransferOutcome outcome) {
+        counters.get(outcome).increment();
+    }
+
+    public void record(Collection<BatchItemResult> results) {
+        results.forEach(result -> record(result.outcome()));
+    }
+}
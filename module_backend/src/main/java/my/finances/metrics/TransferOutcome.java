@@ -0,0 +1,32 @@
+package my.finances.metrics;
+
+import jakarta.persistence.EntityNotFoundException;
+import my.finances.exception.InsufficientFundsException;
+import my.finances.exception.InvalidDataException;
+import org.springframework.dao.ConcurrencyFailureException;
+
+import java.util.Locale;
+
+public enum TransferOutcome {
+    SUCCESS, INSUFFICIENT_FUNDS, NOT_FOUND, INVALID, CONFLICT, ERROR;
+
+    public static TransferOutcome of(RuntimeException exception) {
+        if (exception instanceof InsufficientFundsException) {
+            return INSUFFICIENT_FUNDS;
+        }
+        if (exception instanceof EntityNotFoundException) {
+            return NOT_FOUND;
+        }
+        if (exception instanceof InvalidDataException) {
+            return INVALID;
+        }
+        if (exception instanceof ConcurrencyFailureException) {
+            return CONFLICT;
+        }
+        return ERROR;
+    }
+
+    public String tag() {
+        return name().toLowerCase(Locale.ROOT);
+    }
+}
@@ -0,0 +1,46 @@
+package my.finances.persistence.cache;
+
+import jakarta.persistence.Cache;
+import jakarta.persistence.EntityManagerFactory;
+import lombok.AllArgsConstructor;
+import my.finances.persistence.entity.Account;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.support.TransactionSynchronization;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
+
+import java.util.Collection;
+import java.util.List;
+
+/**
+ * Evicts second-level cache entries for rows written with plain JDBC, which Hibernate does not see. Entries are
+ * evicted immediately and again once the surrounding transaction completes, so a value loaded by another session
+ * before the commit (or one written by a rolled back transaction) does not survive in the cache.
+ */
+@Component
+@AllArgsConstructor
+public class EntityCacheInvalidator {
+
+    private final EntityManagerFactory entityManagerFactory;
+
+    public void evictAccounts(Collection<Long> ids) {
+        evict(Account.class, ids);
+    }
+
+    public void evict(Class<?> type, Collection<Long> ids) {
+        Cache cache = entityManagerFactory.getCache();
+        List<Long> evicted = List.copyOf(ids);
+        evicted.forEach(id -> cache.evict(type, id));
+        if (TransactionSynchronizationManager.isSynchronizationActive()) {
+            TransactionSynchronizationManager.registerSynchronization(new TransactionSynchronization() {
+                @Override
+                public void afterCompletion(int status) {
+                    evicted.forEach(id -> cache.evict(type, id));
+                }
+            });
+        }
+    }
+
+    public void evictAll() {
+        entityManagerFactory.getCache().evictAll();
+    }
+}
@@ -0,0 +1,38 @@
+package my.finances.persistence.entity;
+
+import jakarta.persistence.Column;
+import jakarta.persistence.Entity;
+import jakarta.persistence.Index;
+import jakarta.persistence.Table;
+import lombok.Getter;
+import lombok.Setter;
+
+import java.util.Date;
+
+@Getter
+@Setter
+@Entity
+@Table(name = "balance_history",
+        indexes = @Index(name = "idx_balance_history_account_created", columnList = "account_id, created"))
+public class BalanceHistory extends BaseEntity {
+    @Column(name = "account_id", nullable = false)
+    private long accountId;
+
+    @Column(name = "transaction_id")
+    private Long transactionId;
+
+    @Column(name = "balance_after", nullable = false)
+    private int balanceAfter;
+
+    public BalanceHistory() {
+        super();
+    }
+
+    public BalanceHistory(long accountId, Long transactionId, int balanceAfter, Date created) {
+        super();
+        this.accountId = accountId;
+        this.transactionId = transactionId;
+        this.balanceAfter = balanceAfter;
+        setCreated(created);
+    }
+}
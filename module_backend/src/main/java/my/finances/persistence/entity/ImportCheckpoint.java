@@ -0,0 +1,42 @@
+package my.finances.persistence.entity;
+
+import jakarta.persistence.Column;
+import jakarta.persistence.Entity;
+import jakarta.persistence.Table;
+import jakarta.persistence.Temporal;
+import jakarta.persistence.TemporalType;
+import lombok.Getter;
+import lombok.Setter;
+
+import java.util.Date;
+
+@Getter
+@Setter
+@Entity
+@Table(name = "import_checkpoints")
+public class ImportCheckpoint extends BaseEntity {
+    @Column(name = "import_key", nullable = false, unique = true)
+    private String importKey;
+
+    @Column(name = "last_row", nullable = false)
+    private long lastRow;
+
+    @Column(name = "rows_imported", nullable = false)
+    private long rowsImported;
+
+    @Column(name = "rows_rejected", nullable = false)
+    private long rowsRejected;
+
+    @Column(nullable = false)
+    private boolean completed;
+
+    @Column(nullable = false)
+    private boolean running;
+
+    @Temporal(TemporalType.TIMESTAMP)
+    private Date updated;
+
+    public ImportCheckpoint() {
+        super();
+    }
+}
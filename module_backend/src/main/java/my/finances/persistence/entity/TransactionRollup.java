@@ -0,0 +1,41 @@
+package my.finances.persistence.entity;
+
+import jakarta.persistence.Column;
+import jakarta.persistence.Entity;
+import jakarta.persistence.EnumType;
+import jakarta.persistence.Enumerated;
+import jakarta.persistence.Table;
+import jakarta.persistence.UniqueConstraint;
+import lombok.Getter;
+import lombok.Setter;
+import my.finances.persistence.types.RollupPeriod;
+
+import java.time.LocalDate;
+
+@Getter
+@Setter
+@Entity
+@Table(name = "transaction_rollups",
+        uniqueConstraints = @UniqueConstraint(name = "uk_transaction_rollups_account_period",
+                columnNames = {"account_id", "period", "period_start"}))
+public class TransactionRollup extends BaseEntity {
+    @Column(name = "account_id", nullable = false)
+    private long accountId;
+
+    @Column(nullable = false, length = 8)
+    @Enumerated(EnumType.STRING)
+    private RollupPeriod period;
+
+    @Column(name = "period_start", nullable = false)
+    private LocalDate periodStart;
+
+    @Column(nullable = false)
+    private long expense;
+
+    @Column(nullable = false)
+    private long profit;
+
+    public TransactionRollup() {
+        super();
+    }
+}
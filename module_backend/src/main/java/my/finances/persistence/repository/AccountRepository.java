@@ -1,14 +1,52 @@
 package my.finances.persistence.repository;
 
 import jakarta.websocket.server.PathParam;
+import my.finances.dto.AccountBalance;
+import my.finances.dto.AccountShortInfo;
+import my.finances.dto.AccountWithTransactionsDTO;
 import my.finances.persistence.entity.Account;
+import org.springframework.data.domain.Pageable;
 import org.springframework.data.jpa.repository.Query;
 import org.springframework.stereotype.Repository;
 
 import java.util.Collection;
+import java.util.List;
+import java.util.Optional;
 
 @Repository
 public interface AccountRepository extends BaseEntityRepository<Account> {
+    @Query("select new my.finances.dto.AccountBalance(a.id, a.balance, concat(o.firstName, ' ', o.lastName)) " +
+            "from Account a join a.owner o where a.id in :ids")
+    List<AccountBalance> findBalancesByIdIn(@PathParam("ids") Collection<Long> ids);
+
+    @Query("select a.id from Account a")
+    List<Long> findAllIds();
+
+    @Query("select new my.finances.dto.AccountWithTransactionsDTO(a.id, a.created, a.balance, a.name, a.owner.id) " +
+            "from Account a where a.id=:id")
+    Optional<AccountWithTransactionsDTO> findDetailsById(@PathParam("id") long id);
+
     @Query("from Account where owner.id=:id")
     Collection<Account> findAllByOwnerId(@PathParam("id") long id);
+
+    @Query("select new my.finances.dto.AccountShortInfo(a.id, a.balance, a.name, count(t.id), o.firstName, o.lastName) " +
+            "from Account a join a.owner o left join Transaction t on t.account = a " +
+            "where a.id > :after " +
+            "group by a.id, a.balance, a.name, o.firstName, o.lastName " +
+            "order by a.id")
+    List<AccountShortInfo> findAllWithTransactionNumberAfter(@PathParam("after") long after, Pageable pageable);
+
+    @Query("select new my.finances.dto.AccountShortInfo(a.id, a.balance, a.name, count(t.id), o.firstName, o.lastName) " +
+            "from Account a join a.owner o left join Transaction t on t.account = a " +
+            "where a.id < :before " +
+            "group by a.id, a.balance, a.name, o.firstName, o.lastName " +
+            "order by a.id desc")
+    List<AccountShortInfo> findAllWithTransactionNumberBefore(@PathParam("before") long before, Pageable pageable);
+
+    @Query("select new my.finances.dto.AccountShortInfo(a.id, a.balance, a.name, count(t.id), o.firstName, o.lastName) " +
+            "from Account a join a.owner o left join Transaction t on t.account = a " +
+            "where o.id=:id " +
+            "group by a.id, a.balance, a.name, o.firstName, o.lastName " +
+            "order by a.id")
+    Collection<AccountShortInfo> findAllWithTransactionNumberByOwnerId(@PathParam("id") long id);
 }
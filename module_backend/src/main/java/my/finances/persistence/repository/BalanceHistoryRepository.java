@@ -0,0 +1,23 @@
+package my.finances.persistence.repository;
+
+import jakarta.websocket.server.PathParam;
+import my.finances.persistence.entity.BalanceHistory;
+import org.springframework.data.domain.Pageable;
+import org.springframework.data.jpa.repository.Modifying;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.stereotype.Repository;
+
+import java.util.Date;
+import java.util.List;
+
+@Repository
+public interface BalanceHistoryRepository extends BaseEntityRepository<BalanceHistory> {
+    @Query("select h.balanceAfter from BalanceHistory h " +
+            "where h.accountId = :id and h.created <= :at " +
+            "order by h.created desc, h.id desc")
+    List<Integer> findBalancesAtOrBefore(@PathParam("id") long id, @PathParam("at") Date at, Pageable pageable);
+
+    @Modifying
+    @Query("delete from BalanceHistory h where h.accountId = :id")
+    void deleteAllByAccountId(@PathParam("id") long id);
+}
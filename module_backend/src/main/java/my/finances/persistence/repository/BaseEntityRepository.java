@@ -1,9 +1,21 @@
 package my.finances.persistence.repository;
 
+import jakarta.websocket.server.PathParam;
 import my.finances.persistence.entity.BaseEntity;
+import org.springframework.data.domain.Pageable;
 import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Query;
 import org.springframework.data.repository.NoRepositoryBean;
 
+import java.util.List;
+
 @NoRepositoryBean
 public interface BaseEntityRepository<ENTITY extends BaseEntity> extends JpaRepository<ENTITY, Long> {
+    @Query("from #{#entityName} e where e.id > :after order by e.id")
+    List<ENTITY> findAllAfter(@PathParam("after") long after, Pageable pageable);
+
+    @Query("from #{#entityName} e where e.id < :before order by e.id desc")
+    List<ENTITY> findAllBefore(@PathParam("before") long before, Pageable pageable);
+
+    boolean existsByIdLessThan(long id);
 }
@@ -0,0 +1,25 @@
+package my.finances.persistence.repository;
+
+import jakarta.websocket.server.PathParam;
+import my.finances.persistence.entity.ImportCheckpoint;
+import org.springframework.data.jpa.repository.Modifying;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.stereotype.Repository;
+
+import java.util.Date;
+import java.util.Optional;
+
+@Repository
+public interface ImportCheckpointRepository extends BaseEntityRepository<ImportCheckpoint> {
+    @Query("from ImportCheckpoint where importKey = :key")
+    Optional<ImportCheckpoint> findByImportKey(@PathParam("key") String key);
+
+    @Modifying
+    @Query("update ImportCheckpoint c set c.running = true, c.updated = :now where c.id = :id and c.completed = false " +
+            "and (c.running = false or c.updated < :staleBefore)")
+    int claim(@PathParam("id") long id, @PathParam("now") Date now, @PathParam("staleBefore") Date staleBefore);
+
+    @Modifying
+    @Query("update ImportCheckpoint c set c.running = false where c.id = :id")
+    void release(@PathParam("id") long id);
+}
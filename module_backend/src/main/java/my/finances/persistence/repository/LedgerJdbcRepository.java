@@ -0,0 +1,272 @@
+package my.finances.persistence.repository;
+
+import my.finances.persistence.cache.EntityCacheInvalidator;
+import my.finances.persistence.types.RollupPeriod;
+import my.finances.persistence.types.TransactionType;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.dao.ConcurrencyFailureException;
+import org.springframework.dao.DataRetrievalFailureException;
+import org.springframework.dao.DuplicateKeyException;
+import org.springframework.jdbc.core.ConnectionCallback;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.jdbc.core.namedparam.NamedParameterJdbcTemplate;
+import org.springframework.stereotype.Repository;
+
+import java.sql.PreparedStatement;
+import java.sql.ResultSet;
+import java.sql.Statement;
+import java.sql.Timestamp;
+import java.time.LocalDate;
+import java.time.ZoneId;
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.Comparator;
+import java.util.Date;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.TreeMap;
+
+@Repository
+public class LedgerJdbcRepository {
+
+    private static final String INSERT_TRANSACTION =
+            "insert into transactions (created, description, amount, transaction_type, account_id) values (?, ?, ?, ?, ?)";
+    private static final Comparator<Rollup> ROLLUP_ORDER = Comparator.comparingLong(Rollup::accountId)
+            .thenComparing(Rollup::period)
+            .thenComparing(Rollup::periodStart);
+
+    private final JdbcTemplate jdbcTemplate;
+    private final NamedParameterJdbcTemplate namedParameterJdbcTemplate;
+    private final EntityCacheInvalidator entityCacheInvalidator;
+    private final ZoneId rollupZone;
+
+    public LedgerJdbcRepository(JdbcTemplate jdbcTemplate,
+                                NamedParameterJdbcTemplate namedParameterJdbcTemplate,
+                                EntityCacheInvalidator entityCacheInvalidator,
+                                @Value("${finance.rollup.zone:UTC}") ZoneId rollupZone) {
+        this.jdbcTemplate = jdbcTemplate;
+        this.namedParameterJdbcTemplate = namedParameterJdbcTemplate;
+        this.entityCacheInvalidator = entityCacheInvalidator;
+        this.rollupZone = rollupZone;
+    }
+
+    /**
+     * Applies the balance deltas and records the transfer legs. The legs are stamped once the balance updates hold the
+     * account row locks, so per account the balance history timestamps follow commit order.
+     */
+    public boolean recordTransfers(Map<Long, Integer> deltas, List<Entry> transfers) {
+        if (!applyBalanceDeltas(deltas)) {
+            return false;
+        }
+        Date created = new Date();
+        List<Entry> entries = transfers.stream().map(entry -> entry.at(created)).toList();
+        long[] ids = insertTransactions(entries);
+        Map<Long, Integer> running = findBalances(deltas.keySet());
+        running.replaceAll((id, balance) -> balance - deltas.get(id));
+        List<Object[]> history = new ArrayList<>(entries.size());
+        for (int i = 0; i < entries.size(); i++) {
+            Entry entry = entries.get(i);
+            int amount = entry.transactionType() == TransactionType.PROFIT ? entry.amount() : -entry.amount();
+            history.add(new Object[]{
+                    new Timestamp(entry.created().getTime()),
+                    entry.accountId(),
+                    ids[i],
+                    running.merge(entry.accountId(), amount, Integer::sum)
+            });
+        }
+        jdbcTemplate.batchUpdate(
+                "insert into balance_history (created, account_id, transaction_id, balance_after) values (?, ?, ?, ?)",
+                history);
+        return true;
+    }
+
+    public int debit(long id, int amount) {
+        entityCacheInvalidator.evictAccounts(List.of(id));
+        return jdbcTemplate.update("update accounts set balance = balance - ? where id = ? and balance >= ?",
+                amount, id, amount);
+    }
+
+    public int credit(long id, int amount) {
+        entityCacheInvalidator.evictAccounts(List.of(id));
+        return jdbcTemplate.update("update accounts set balance = balance + ? where id = ? and balance <= ?",
+                amount, id, Integer.MAX_VALUE - amount);
+    }
+
+    private boolean applyBalanceDeltas(Map<Long, Integer> deltas) {
+        List<Map.Entry<Long, Integer>> rows = new ArrayList<>(deltas.entrySet());
+        rows.sort(Map.Entry.comparingByKey());
+        entityCacheInvalidator.evictAccounts(deltas.keySet());
+        int[][] counts = jdbcTemplate.batchUpdate(
+                "update accounts set balance = balance + ? where id = ? and balance >= ? and balance <= ?",
+                rows, rows.size(), (ps, row) -> {
+                    int delta = row.getValue();
+                    ps.setInt(1, delta);
+                    ps.setLong(2, row.getKey());
+                    ps.setInt(3, delta < 0 ? -delta : Integer.MIN_VALUE);
+                    ps.setInt(4, delta > 0 ? Integer.MAX_VALUE - delta : Integer.MAX_VALUE);
+                });
+        for (int[] batch : counts) {
+            for (int count : batch) {
+                if (count == 0) {
+                    return false;
+                }
+            }
+        }
+        return true;
+    }
+
+    public long[] insertTransactions(List<Entry> entries) {
+        long[] ids = jdbcTemplate.execute((ConnectionCallback<long[]>) connection -> {
+            try (PreparedStatement ps = connection.prepareStatement(INSERT_TRANSACTION, Statement.RETURN_GENERATED_KEYS)) {
+                for (Entry entry : entries) {
+                    ps.setTimestamp(1, new Timestamp(entry.created().getTime()));
+                    ps.setString(2, entry.description());
+                    ps.setInt(3, entry.amount());
+                    ps.setString(4, entry.transactionType().name());
+                    ps.setLong(5, entry.accountId());
+                    ps.addBatch();
+                }
+                ps.executeBatch();
+                long[] keys = new long[entries.size()];
+                int count = 0;
+                try (ResultSet rs = ps.getGeneratedKeys()) {
+                    while (rs.next() && count < keys.length) {
+                        keys[count++] = rs.getLong(1);
+                    }
+                }
+                if (count != keys.length) {
+                    throw new DataRetrievalFailureException("Expected " + keys.length + " generated keys, got " + count);
+                }
+                return keys;
+            }
+        });
+        addToRollups(entries);
+        return ids == null ? new long[0] : ids;
+    }
+
+    public void addToRollups(List<Entry> entries) {
+        Map<Rollup, long[]> totals = new TreeMap<>(ROLLUP_ORDER);
+        for (Entry entry : entries) {
+            addToTotals(totals, entry.accountId(), entry.transactionType(), entry.amount(), entry.created());
+        }
+        applyRollups(toRollups(totals));
+    }
+
+    /**
+     * Recomputes an account's rollups from its transactions, bucketing days in the same zone as
+     * {@link #addToRollups(List)}. The caller is expected to hold the account lock and to have deleted the old rows.
+     */
+    public void rebuildRollups(long accountId) {
+        Map<Rollup, long[]> totals = new TreeMap<>(ROLLUP_ORDER);
+        jdbcTemplate.query("select created, transaction_type, amount from transactions where account_id = ?",
+                rs -> {
+                    addToTotals(totals, accountId, TransactionType.valueOf(rs.getString(2)), rs.getInt(3),
+                            rs.getTimestamp(1));
+                }, accountId);
+        applyRollups(toRollups(totals));
+    }
+
+    public ZoneId getRollupZone() {
+        return rollupZone;
+    }
+
+    private void addToTotals(Map<Rollup, long[]> totals, long accountId, TransactionType type, int amount, Date created) {
+        LocalDate day = created.toInstant().atZone(rollupZone).toLocalDate();
+        for (RollupPeriod period : RollupPeriod.values()) {
+            long[] total = totals.computeIfAbsent(
+                    new Rollup(accountId, period, period.start(day), 0, 0), key -> new long[2]);
+            total[type == TransactionType.EXPENSE ? 0 : 1] += amount;
+        }
+    }
+
+    private List<Rollup> toRollups(Map<Rollup, long[]> totals) {
+        List<Rollup> rollups = new ArrayList<>(totals.size());
+        totals.forEach((key, total) ->
+                rollups.add(new Rollup(key.accountId(), key.period(), key.periodStart(), total[0], total[1])));
+        return rollups;
+    }
+
+    public void applyRollups(List<Rollup> rollups) {
+        List<Rollup> rows = new ArrayList<>(rollups);
+        rows.sort(ROLLUP_ORDER);
+        int[][] counts = jdbcTemplate.batchUpdate(
+                "update transaction_rollups set expense = expense + ?, profit = profit + ? " +
+                        "where account_id = ? and period = ? and period_start = ?",
+                rows, rows.size(), (ps, row) -> {
+                    ps.setLong(1, row.expense());
+                    ps.setLong(2, row.profit());
+                    ps.setLong(3, row.accountId());
+                    ps.setString(4, row.period().name());
+                    ps.setObject(5, row.periodStart());
+                });
+        List<Rollup> missing = new ArrayList<>();
+        int index = 0;
+        for (int[] batch : counts) {
+            for (int count : batch) {
+                if (count == 0) {
+                    missing.add(rows.get(index));
+                }
+                index++;
+            }
+        }
+        if (missing.isEmpty()) {
+            return;
+        }
+        Timestamp now = new Timestamp(System.currentTimeMillis());
+        try {
+            jdbcTemplate.batchUpdate(
+                    "insert into transaction_rollups (created, account_id, period, period_start, expense, profit) " +
+                            "values (?, ?, ?, ?, ?, ?)",
+                    missing, missing.size(), (ps, row) -> {
+                        ps.setTimestamp(1, now);
+                        ps.setLong(2, row.accountId());
+                        ps.setString(3, row.period().name());
+                        ps.setObject(4, row.periodStart());
+                        ps.setLong(5, row.expense());
+                        ps.setLong(6, row.profit());
+                    });
+        } catch (DuplicateKeyException e) {
+            throw new ConcurrencyFailureException("Rollup created concurrently", e);
+        }
+    }
+
+    public boolean lockAccount(long id) {
+        return !jdbcTemplate.queryForList("select id from accounts where id = ? for update", Long.class, id).isEmpty();
+    }
+
+    /**
+     * Takes the row locks of {@code ids} in id order, the same order balance updates use, and returns the balances
+     * read under them. Batched transfers check every leg against these values; writers that only insert transactions
+     * use the locks to serialize with rollup rebuilds. Ids of missing accounts are absent from the result.
+     */
+    public Map<Long, Integer> lockAccounts(Collection<Long> ids) {
+        Map<Long, Integer> balances = new HashMap<>();
+        if (ids.isEmpty()) {
+            return balances;
+        }
+        namedParameterJdbcTemplate.query("select id, balance from accounts where id in (:ids) order by id for update",
+                Map.of("ids", ids), rs -> {
+                    balances.put(rs.getLong(1), rs.getInt(2));
+                });
+        return balances;
+    }
+
+    private Map<Long, Integer> findBalances(Collection<Long> ids) {
+        Map<Long, Integer> balances = new HashMap<>();
+        namedParameterJdbcTemplate.query("select id, balance from accounts where id in (:ids)", Map.of("ids", ids),
+                rs -> {
+                    balances.put(rs.getLong(1), rs.getInt(2));
+                });
+        return balances;
+    }
+
+    public record Entry(long accountId, TransactionType transactionType, int amount, String description, Date created) {
+        public Entry at(Date created) {
+            return new Entry(accountId, transactionType, amount, description, created);
+        }
+    }
+
+    public record Rollup(long accountId, RollupPeriod period, LocalDate periodStart, long expense, long profit) {
+    }
+}
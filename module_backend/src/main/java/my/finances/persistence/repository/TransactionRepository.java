@@ -1,14 +1,105 @@
 package my.finances.persistence.repository;
 
+import jakarta.persistence.QueryHint;
 import jakarta.websocket.server.PathParam;
+import my.finances.dto.IdRange;
+import my.finances.dto.TransactionDetails;
+import my.finances.dto.TransactionShortInfo;
 import my.finances.persistence.entity.Transaction;
+import org.hibernate.jpa.HibernateHints;
+import org.springframework.data.domain.Pageable;
 import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.jpa.repository.QueryHints;
 import org.springframework.stereotype.Repository;
 
 import java.util.Collection;
+import java.util.Date;
+import java.util.List;
+import java.util.Optional;
+import java.util.stream.Stream;
 
 @Repository
 public interface TransactionRepository extends BaseEntityRepository<Transaction> {
+    @Query("select coalesce(sum(case when t.transactionType = my.finances.persistence.types.TransactionType.PROFIT " +
+            "then t.amount else -t.amount end), 0) " +
+            "from Transaction t where t.account.id = :id and t.created > :at")
+    long sumSignedAmountsAfter(@PathParam("id") long id, @PathParam("at") Date at);
+
+
     @Query("from Transaction where account.id=:id")
     Collection<Transaction> findAllByAccountId(@PathParam("id") long id);
+
+    @Query("from Transaction t join fetch t.account a join fetch a.owner order by t.id desc")
+    List<Transaction> findRecent(Pageable pageable);
+
+    @Override
+    @Query("from Transaction t join fetch t.account a join fetch a.owner where t.id > :after order by t.id")
+    List<Transaction> findAllAfter(@PathParam("after") long after, Pageable pageable);
+
+    @Override
+    @Query("from Transaction t join fetch t.account a join fetch a.owner where t.id < :before order by t.id desc")
+    List<Transaction> findAllBefore(@PathParam("before") long before, Pageable pageable);
+
+    @Query("from Transaction where account.id=:id and id > :after order by id")
+    List<Transaction> findAllByAccountIdAfter(@PathParam("id") long id, @PathParam("after") long after, Pageable pageable);
+
+    @Query("select new my.finances.dto.TransactionShortInfo(t.id, t.amount, t.transactionType, a.name) " +
+            "from Transaction t join t.account a where t.id > :after order by t.id")
+    List<TransactionShortInfo> findAllShortInfoAfter(@PathParam("after") long after, Pageable pageable);
+
+    @Query("select new my.finances.dto.TransactionShortInfo(t.id, t.amount, t.transactionType, a.name) " +
+            "from Transaction t join t.account a where t.id < :before order by t.id desc")
+    List<TransactionShortInfo> findAllShortInfoBefore(@PathParam("before") long before, Pageable pageable);
+
+    @Query("select new my.finances.dto.TransactionShortInfo(t.id, t.amount, t.transactionType, a.name) " +
+            "from Transaction t join t.account a order by t.id desc")
+    List<TransactionShortInfo> findRecentShortInfo(Pageable pageable);
+
+    @Query("select new my.finances.dto.TransactionShortInfo(t.id, t.amount, t.transactionType, a.name) " +
+            "from Transaction t join t.account a where a.id=:id and t.id > :after order by t.id")
+    List<TransactionShortInfo> findAllShortInfoByAccountIdAfter(@PathParam("id") long id, @PathParam("after") long after,
+                                                                Pageable pageable);
+
+    @Query("select new my.finances.dto.TransactionDetails(t.id, t.amount, t.transactionType, a.name, t.created, " +
+            "t.description, a.id, o.id, o.firstName, o.lastName) " +
+            "from Transaction t join t.account a join a.owner o where t.id=:id")
+    Optional<TransactionDetails> findDetailsById(@PathParam("id") long id);
+
+    @QueryHints({
+            @QueryHint(name = HibernateHints.HINT_FETCH_SIZE, value = "1000"),
+            @QueryHint(name = HibernateHints.HINT_READ_ONLY, value = "true")
+    })
+    @Query("from Transaction t join fetch t.account a join fetch a.owner order by t.id")
+    Stream<Transaction> streamAll();
+
+    @QueryHints({
+            @QueryHint(name = HibernateHints.HINT_FETCH_SIZE, value = "1000"),
+            @QueryHint(name = HibernateHints.HINT_READ_ONLY, value = "true")
+    })
+    @Query("from Transaction t join fetch t.account a join fetch a.owner where a.id=:id order by t.id")
+    Stream<Transaction> streamAllByAccountId(@PathParam("id") long id);
+
+    @Query("select count(t) from Transaction t where t.account.id=:id")
+    long countByAccountId(@PathParam("id") long id);
+
+    @Query("select new my.finances.dto.IdRange(min(t.id), max(t.id)) from Transaction t")
+    IdRange findIdRange();
+
+    @Query("select new my.finances.dto.IdRange(min(t.id), max(t.id)) from Transaction t where t.account.id=:id")
+    IdRange findIdRangeByAccountId(@PathParam("id") long id);
+
+    @Query("select t.id from Transaction t where t.id > :after order by t.id")
+    List<Long> findIdsAfter(@PathParam("after") long after, Pageable pageable);
+
+    @Query("select t.id from Transaction t where t.account.id=:id and t.id > :after order by t.id")
+    List<Long> findIdsByAccountIdAfter(@PathParam("id") long id, @PathParam("after") long after, Pageable pageable);
+
+    @QueryHints(@QueryHint(name = HibernateHints.HINT_READ_ONLY, value = "true"))
+    @Query("from Transaction t join fetch t.account a join fetch a.owner where t.id between :from and :to order by t.id")
+    List<Transaction> findAllInIdRange(@PathParam("from") long from, @PathParam("to") long to);
+
+    @QueryHints(@QueryHint(name = HibernateHints.HINT_READ_ONLY, value = "true"))
+    @Query("from Transaction t join fetch t.account a join fetch a.owner " +
+            "where a.id=:id and t.id between :from and :to order by t.id")
+    List<Transaction> findAllByAccountIdInIdRange(@PathParam("id") long id, @PathParam("from") long from, @PathParam("to") long to);
 }
@@ -0,0 +1,33 @@
+package my.finances.persistence.repository;
+
+import jakarta.websocket.server.PathParam;
+import my.finances.dto.RollupTotal;
+import my.finances.persistence.entity.TransactionRollup;
+import my.finances.persistence.types.RollupPeriod;
+import org.springframework.data.jpa.repository.Modifying;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.stereotype.Repository;
+
+import java.time.LocalDate;
+import java.util.List;
+
+@Repository
+public interface TransactionRollupRepository extends BaseEntityRepository<TransactionRollup> {
+    @Query("select new my.finances.dto.RollupTotal(r.periodStart, r.expense, r.profit) from TransactionRollup r " +
+            "where r.accountId = :id and r.period = :period and r.periodStart between :from and :to " +
+            "order by r.periodStart")
+    List<RollupTotal> findTotalsByAccountId(@PathParam("id") long id, @PathParam("period") RollupPeriod period,
+                                            @PathParam("from") LocalDate from, @PathParam("to") LocalDate to);
+
+    @Query("select new my.finances.dto.RollupTotal(r.periodStart, sum(r.expense), sum(r.profit)) " +
+            "from TransactionRollup r, Account a " +
+            "where a.id = r.accountId and a.owner.id = :id and r.period = :period " +
+            "and r.periodStart between :from and :to " +
+            "group by r.periodStart order by r.periodStart")
+    List<RollupTotal> findTotalsByOwnerId(@PathParam("id") long id, @PathParam("period") RollupPeriod period,
+                                          @PathParam("from") LocalDate from, @PathParam("to") LocalDate to);
+
+    @Modifying
+    @Query("delete from TransactionRollup r where r.accountId = :id")
+    void deleteAllByAccountId(@PathParam("id") long id);
+}
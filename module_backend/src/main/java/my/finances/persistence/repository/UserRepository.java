@@ -1,8 +1,30 @@
 package my.finances.persistence.repository;
 
+import jakarta.websocket.server.PathParam;
+import my.finances.dto.UserInfo;
+import my.finances.dto.UserWithAccountNumberDTO;
 import my.finances.persistence.entity.User;
+import org.springframework.data.domain.Pageable;
+import org.springframework.data.jpa.repository.Query;
 import org.springframework.stereotype.Repository;
 
+import java.util.List;
+import java.util.Optional;
+
 @Repository
 public interface UserRepository extends BaseEntityRepository<User> {
+    @Query("select new my.finances.dto.UserInfo(u.id, u.created, u.firstName, u.lastName) from User u where u.id=:id")
+    Optional<UserInfo> findInfoById(@PathParam("id") long id);
+
+    @Query("select new my.finances.dto.UserWithAccountNumberDTO(u.id, u.created, u.firstName, u.lastName, count(a.id)) " +
+            "from User u left join Account a on a.owner = u " +
+            "where u.id > :after " +
+            "group by u.id, u.created, u.firstName, u.lastName order by u.id")
+    List<UserWithAccountNumberDTO> findAllWithNumberOfAccountsAfter(@PathParam("after") long after, Pageable pageable);
+
+    @Query("select new my.finances.dto.UserWithAccountNumberDTO(u.id, u.created, u.firstName, u.lastName, count(a.id)) " +
+            "from User u left join Account a on a.owner = u " +
+            "where u.id < :before " +
+            "group by u.id, u.created, u.firstName, u.lastName order by u.id desc")
+    List<UserWithAccountNumberDTO> findAllWithNumberOfAccountsBefore(@PathParam("before") long before, Pageable pageable);
 }
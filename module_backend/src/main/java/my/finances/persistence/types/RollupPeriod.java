@@ -0,0 +1,11 @@
+package my.finances.persistence.types;
+
+import java.time.LocalDate;
+
+public enum RollupPeriod {
+    DAY, MONTH;
+
+    public LocalDate start(LocalDate day) {
+        return this == MONTH ? day.withDayOfMonth(1) : day;
+    }
+}
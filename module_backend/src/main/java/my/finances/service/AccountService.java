@@ -1,10 +1,20 @@
 package my.finances.service;
 
+import my.finances.dto.AccountShortInfo;
+import my.finances.dto.AccountWithTransactionsDTO;
 import my.finances.persistence.entity.Account;
+import org.springframework.data.domain.Pageable;
 
 import java.util.Collection;
+import java.util.Date;
+import java.util.List;
 
 public interface AccountService extends MutableEntityService<Account> {
     void create(Account entity, Long ownerId);
     Collection<Account> findByUserId(long id);
+    AccountWithTransactionsDTO findDetailsById(long id);
+    List<AccountShortInfo> findAllWithTransactionNumber(long after, Pageable pageable);
+    List<AccountShortInfo> findAllWithTransactionNumberBefore(long before, Pageable pageable);
+    Collection<AccountShortInfo> findAllWithTransactionNumberByUserId(long id);
+    int findBalanceAt(long id, Date at);
 }
@@ -7,4 +7,5 @@ import java.util.Collection;
 public interface BaseEntityService<ENTITY extends BaseEntity> {
     ENTITY findById(Long id);
     Collection<ENTITY> findAll();
+    boolean existsBefore(long id);
 }
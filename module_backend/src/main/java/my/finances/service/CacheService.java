@@ -0,0 +1,10 @@
+package my.finances.service;
+
+import my.finances.dto.CacheRegionStats;
+
+import java.util.List;
+
+public interface CacheService {
+    List<CacheRegionStats> findStats();
+    void evictAll();
+}
@@ -0,0 +1,12 @@
+package my.finances.service;
+
+import my.finances.service.export.ExportJob;
+
+import java.nio.file.Path;
+
+public interface ExportJobService {
+    ExportJob submit(Long accountId, int parallelism);
+    ExportJob findById(String id);
+    ExportJob cancel(String id);
+    Path findFile(String id);
+}
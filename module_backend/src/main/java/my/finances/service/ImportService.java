@@ -0,0 +1,9 @@
+package my.finances.service;
+
+import my.finances.dto.ImportResult;
+
+import java.io.Reader;
+
+public interface ImportService {
+    ImportResult importTransactions(String importKey, Reader in);
+}
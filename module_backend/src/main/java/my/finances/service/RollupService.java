@@ -0,0 +1,14 @@
+package my.finances.service;
+
+import my.finances.dto.RollupTotal;
+import my.finances.persistence.types.RollupPeriod;
+
+import java.time.LocalDate;
+import java.util.List;
+
+public interface RollupService {
+    List<RollupTotal> findByAccountId(long id, RollupPeriod period, LocalDate from, LocalDate to);
+    List<RollupTotal> findByUserId(long id, RollupPeriod period, LocalDate from, LocalDate to);
+    int rebuildAll();
+    boolean rebuild(long accountId);
+}
@@ -1,13 +1,32 @@
 package my.finances.service;
 
+import my.finances.dto.BatchItemResult;
 import my.finances.dto.TransactionCreatedDTO;
+import my.finances.dto.TransactionDetails;
+import my.finances.dto.TransactionShortInfo;
 import my.finances.persistence.entity.Transaction;
+import org.springframework.data.domain.Pageable;
 
+import java.io.OutputStream;
+import java.io.Writer;
 import java.util.Collection;
+import java.util.List;
 
 public interface TransactionService extends BaseEntityService<Transaction> {
     void create(TransactionCreatedDTO transactionDTO);
+    List<BatchItemResult> createBatch(List<TransactionCreatedDTO> transactionDTOs);
     Collection<Transaction> findAllByAccountId(long id);
-    void exportByAccId(long id);
-    void exportAll();
+    List<Transaction> findAllAfter(long after, Pageable pageable);
+    List<Transaction> findAllBefore(long before, Pageable pageable);
+    List<Transaction> findRecent(Pageable pageable);
+    List<Transaction> findAllByAccountIdAfter(long id, long after, Pageable pageable);
+    List<TransactionShortInfo> findAllShortInfoAfter(long after, Pageable pageable);
+    List<TransactionShortInfo> findAllShortInfoBefore(long before, Pageable pageable);
+    List<TransactionShortInfo> findRecentShortInfo(Pageable pageable);
+    List<TransactionShortInfo> findAllShortInfoByAccountIdAfter(long id, long after, Pageable pageable);
+    TransactionDetails findDetailsById(long id);
+    void exportByAccId(long id, int parallelism, Writer out);
+    void exportAll(int parallelism, Writer out);
+    void exportBinaryByAccId(long id, OutputStream out);
+    void exportBinaryAll(OutputStream out);
 }
\ No newline at end of file
@@ -0,0 +1,11 @@
+package my.finances.service;
+
+import my.finances.dto.BatchItemResult;
+import my.finances.dto.TransactionCreatedDTO;
+
+import java.util.List;
+
+public interface TransferService {
+    void transfer(TransactionCreatedDTO transactionDTO);
+    List<BatchItemResult> transferAll(List<TransactionCreatedDTO> transactionDTOs);
+}
@@ -1,8 +1,16 @@
 package my.finances.service;
 
 import my.finances.dto.UserCreatedDTO;
+import my.finances.dto.UserInfo;
+import my.finances.dto.UserWithAccountNumberDTO;
 import my.finances.persistence.entity.User;
+import org.springframework.data.domain.Pageable;
+
+import java.util.List;
 
 public interface UserService extends MutableEntityService<User> {
     void create(UserCreatedDTO entity);
+    UserInfo findInfoById(long id);
+    List<UserWithAccountNumberDTO> findAllWithNumberOfAccounts(long after, Pageable pageable);
+    List<UserWithAccountNumberDTO> findAllWithNumberOfAccountsBefore(long before, Pageable pageable);
 }
@@ -0,0 +1,64 @@
+package my.finances.service.export;
+
+import lombok.Getter;
+import lombok.Setter;
+
+import java.nio.file.Path;
+import java.util.Date;
+import java.util.concurrent.Future;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.concurrent.atomic.AtomicReference;
+
+@Getter
+@Setter
+public class ExportJob {
+    private final String id;
+    private final Long accountId;
+    private final int parallelism;
+    private final Path file;
+    private final Date created = new Date();
+    private final AtomicLong rowsWritten = new AtomicLong();
+    private final AtomicLong bytesWritten = new AtomicLong();
+    private volatile long totalRows = -1;
+    private final AtomicReference<ExportJobState> state = new AtomicReference<>(ExportJobState.QUEUED);
+    private volatile Date started;
+    private volatile Date finished;
+    private volatile String error;
+    private volatile Future<?> future;
+
+    public ExportJob(String id, Long accountId, int parallelism, Path file) {
+        this.id = id;
+        this.accountId = accountId;
+        this.parallelism = parallelism;
+        this.file = file;
+    }
+
+    public ExportJobState getState() {
+        return state.get();
+    }
+
+    public boolean isCancelled() {
+        return state.get() == ExportJobState.CANCELLED;
+    }
+
+    /**
+     * Moves the job from {@code expected} to {@code next}; returns false if another thread changed the state first.
+     */
+    public boolean transition(ExportJobState expected, ExportJobState next) {
+        return state.compareAndSet(expected, next);
+    }
+
+    /**
+     * Cancels the job unless it has already finished; returns true only for the call that performed the cancellation.
+     */
+    public boolean cancel() {
+        ExportJobState current = state.get();
+        while (!current.isFinished()) {
+            if (state.compareAndSet(current, ExportJobState.CANCELLED)) {
+                return true;
+            }
+            current = state.get();
+        }
+        return false;
+    }
+}
@@ -0,0 +1,9 @@
+package my.finances.service.export;
+
+public enum ExportJobState {
+    QUEUED, RUNNING, DONE, FAILED, CANCELLED;
+
+    public boolean isFinished() {
+        return this == DONE || this == FAILED || this == CANCELLED;
+    }
+}
@@ -0,0 +1,66 @@
+package my.finances.service.export;
+
+import io.micrometer.core.instrument.Counter;
+import jakarta.persistence.EntityManager;
+import my.finances.metrics.ExportMetrics;
+import my.finances.persistence.entity.Transaction;
+import my.finances.persistence.repository.TransactionRepository;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import java.io.IOException;
+import java.io.OutputStream;
+import java.util.stream.Stream;
+
+@Component
+public class TransactionBinaryExporter {
+
+    private final TransactionRepository transactionRepository;
+    private final EntityManager entityManager;
+    private final TransactionTemplate readOnlyTransaction;
+    private final Counter exportedRows;
+    private final int rowGroupSize;
+
+    public TransactionBinaryExporter(TransactionRepository transactionRepository,
+                                     EntityManager entityManager,
+                                     PlatformTransactionManager transactionManager,
+                                     ExportMetrics exportMetrics,
+                                     @Value("${finance.export.binary.row-group-size:65536}") int rowGroupSize) {
+        this.transactionRepository = transactionRepository;
+        this.entityManager = entityManager;
+        this.readOnlyTransaction = new TransactionTemplate(transactionManager);
+        this.readOnlyTransaction.setReadOnly(true);
+        this.exportedRows = exportMetrics.rows(ExportMetrics.BINARY);
+        this.rowGroupSize = rowGroupSize;
+    }
+
+    public void export(Long accountId, OutputStream out) {
+        try {
+            TransactionBinaryWriter writer = new TransactionBinaryWriter(out, rowGroupSize);
+            readOnlyTransaction.executeWithoutResult(status -> {
+                try (Stream<Transaction> transactions = accountId == null
+                        ? transactionRepository.streamAll()
+                        : transactionRepository.streamAllByAccountId(accountId)) {
+                    transactions.forEach(e -> {
+                        write(writer, TransactionRow.of(e));
+                        entityManager.detach(e);
+                        exportedRows.increment();
+                    });
+                }
+            });
+            writer.finish();
+        } catch (IOException e) {
+            throw new SecurityException(e);
+        }
+    }
+
+    private void write(TransactionBinaryWriter writer, TransactionRow row) {
+        try {
+            writer.write(row);
+        } catch (IOException e) {
+            throw new SecurityException(e);
+        }
+    }
+}
@@ -0,0 +1,134 @@
+package my.finances.service.export;
+
+import java.io.DataInput;
+import java.io.DataOutput;
+import java.io.IOException;
+import java.nio.charset.StandardCharsets;
+
+/**
+ * Layout of the columnar transaction export.
+ * <p>
+ * The file starts with {@link #MAGIC} and {@link #VERSION}, followed by row groups and a row group of zero rows
+ * as the end marker. Each row group stores its columns one after another: ids and timestamps as zigzag varint
+ * deltas, amounts bit-packed with the narrowest width that fits the group, the transaction type as one bit per
+ * row and account names and descriptions as a dictionary plus bit-packed indices into it.
+ */
+final class TransactionBinaryFormat {
+
+    static final int MAGIC = 0x4D465458;
+    static final int VERSION = 1;
+
+    private TransactionBinaryFormat() {
+    }
+
+    static long zigzag(long value) {
+        return (value << 1) ^ (value >> 63);
+    }
+
+    static long unzigzag(long value) {
+        return (value >>> 1) ^ -(value & 1);
+    }
+
+    static int bitsRequired(long maxValue) {
+        return maxValue == 0 ? 0 : 64 - Long.numberOfLeadingZeros(maxValue);
+    }
+
+    static void writeVarLong(DataOutput out, long value) throws IOException {
+        while ((value & ~0x7FL) != 0) {
+            out.writeByte((int) ((value & 0x7F) | 0x80));
+            value >>>= 7;
+        }
+        out.writeByte((int) value);
+    }
+
+    static long readVarLong(DataInput in) throws IOException {
+        long value = 0;
+        for (int shift = 0; shift < 64; shift += 7) {
+            byte b = in.readByte();
+            value |= (long) (b & 0x7F) << shift;
+            if ((b & 0x80) == 0) {
+                return value;
+            }
+        }
+        throw new IOException("Malformed varint");
+    }
+
+    static void writeString(DataOutput out, String value) throws IOException {
+        if (value == null) {
+            writeVarLong(out, 0);
+            return;
+        }
+        byte[] bytes = value.getBytes(StandardCharsets.UTF_8);
+        writeVarLong(out, bytes.length + 1L);
+        out.write(bytes);
+    }
+
+    static String readString(DataInput in) throws IOException {
+        int length = (int) readVarLong(in);
+        if (length == 0) {
+            return null;
+        }
+        byte[] bytes = new byte[length - 1];
+        in.readFully(bytes);
+        return new String(bytes, StandardCharsets.UTF_8);
+    }
+
+    static void writePacked(DataOutput out, long[] values, int count, int width) throws IOException {
+        out.writeByte(width);
+        if (width == 0) {
+            return;
+        }
+        long buffer = 0;
+        int bits = 0;
+        for (int i = 0; i < count; i++) {
+            long value = values[i];
+            int remaining = width;
+            while (remaining > 0) {
+                int take = Math.min(remaining, 64 - bits);
+                long part = take == 64 ? value : value & ((1L << take) - 1);
+                buffer |= part << bits;
+                bits += take;
+                remaining -= take;
+                value = take == 64 ? 0 : value >>> take;
+                while (bits >= 8) {
+                    out.writeByte((int) buffer);
+                    buffer >>>= 8;
+                    bits -= 8;
+                }
+            }
+        }
+        if (bits > 0) {
+            out.writeByte((int) buffer);
+        }
+    }
+
+    static long[] readPacked(DataInput in, int count) throws IOException {
+        int width = in.readUnsignedByte();
+        long[] values = new long[count];
+        if (width == 0) {
+            return values;
+        }
+        if (width > 64) {
+            throw new IOException("Invalid bit width " + width);
+        }
+        long buffer = 0;
+        int bits = 0;
+        for (int i = 0; i < count; i++) {
+            long value = 0;
+            int filled = 0;
+            while (filled < width) {
+                if (bits == 0) {
+                    buffer = in.readUnsignedByte();
+                    bits = 8;
+                }
+                int take = Math.min(width - filled, bits);
+                value |= (buffer & ((1L << take) - 1)) << filled;
+                buffer >>>= take;
+                bits -= take;
+                filled += take;
+            }
+            values[i] = value;
+        }
+        return values;
+    }
+}
@@ -0,0 +1,122 @@
+package my.finances.service.export;
+
+import my.finances.persistence.types.TransactionType;
+
+import java.io.BufferedInputStream;
+import java.io.Closeable;
+import java.io.DataInputStream;
+import java.io.IOException;
+import java.io.InputStream;
+import java.io.UncheckedIOException;
+import java.util.Date;
+import java.util.Iterator;
+import java.util.NoSuchElementException;
+
+import static my.finances.service.export.TransactionBinaryFormat.*;
+
+public class TransactionBinaryReader implements Iterator<TransactionRow>, Closeable {
+
+    private final DataInputStream in;
+    private long[] ids = new long[0];
+    private long[] created;
+    private long[] amounts;
+    private long[] types;
+    private long[] accounts;
+    private long[] descriptions;
+    private long[] accountIds;
+    private String[] accountNames;
+    private String[] descriptionDictionary;
+    private int rows;
+    private int position;
+    private boolean exhausted;
+
+    public TransactionBinaryReader(InputStream in) throws IOException {
+        this.in = new DataInputStream(new BufferedInputStream(in, 1 << 16));
+        if (this.in.readInt() != MAGIC) {
+            throw new IOException("Not a transaction export");
+        }
+        int version = this.in.readUnsignedByte();
+        if (version != VERSION) {
+            throw new IOException("Unsupported format version " + version);
+        }
+    }
+
+    @Override
+    public boolean hasNext() {
+        if (position < rows) {
+            return true;
+        }
+        if (exhausted) {
+            return false;
+        }
+        try {
+            readRowGroup();
+        } catch (IOException e) {
+            throw new UncheckedIOException(e);
+        }
+        return position < rows;
+    }
+
+    @Override
+    public TransactionRow next() {
+        if (!hasNext()) {
+            throw new NoSuchElementException();
+        }
+        int i = position++;
+        int account = (int) accounts[i];
+        int description = (int) descriptions[i];
+        return new TransactionRow(
+                ids[i],
+                types[i] == 1 ? TransactionType.PROFIT : TransactionType.EXPENSE,
+                (int) unzigzag(amounts[i]),
+                accountIds[account],
+                accountNames[account],
+                description == 0 ? null : descriptionDictionary[description - 1],
+                new Date(created[i])
+        );
+    }
+
+    @Override
+    public void close() throws IOException {
+        in.close();
+    }
+
+    private void readRowGroup() throws IOException {
+        rows = (int) readVarLong(in);
+        position = 0;
+        if (rows == 0) {
+            exhausted = true;
+            return;
+        }
+        ids = readDeltas();
+        created = readDeltas();
+        amounts = readPacked(in, rows);
+        types = readPacked(in, rows);
+
+        int accountCount = (int) readVarLong(in);
+        accountIds = new long[accountCount];
+        accountNames = new String[accountCount];
+        for (int i = 0; i < accountCount; i++) {
+            accountIds[i] = readVarLong(in);
+            accountNames[i] = readString(in);
+        }
+        accounts = readPacked(in, rows);
+
+        int descriptionCount = (int) readVarLong(in);
+        descriptionDictionary = new String[descriptionCount];
+        for (int i = 0; i < descriptionCount; i++) {
+            descriptionDictionary[i] = readString(in);
+        }
+        descriptions = readPacked(in, rows);
+    }
+
+    private long[] readDeltas() throws IOException {
+        long[] values = new long[rows];
+        long previous = 0;
+        for (int i = 0; i < rows; i++) {
+            previous += unzigzag(readVarLong(in));
+            values[i] = previous;
+        }
+        return values;
+    }
+}
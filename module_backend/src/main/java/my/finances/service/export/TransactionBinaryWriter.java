@@ -0,0 +1,131 @@
+package my.finances.service.export;
+
+import my.finances.persistence.types.TransactionType;
+
+import java.io.BufferedOutputStream;
+import java.io.Closeable;
+import java.io.DataOutputStream;
+import java.io.IOException;
+import java.io.OutputStream;
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+
+import static my.finances.service.export.TransactionBinaryFormat.*;
+
+public class TransactionBinaryWriter implements Closeable {
+
+    public static final int DEFAULT_ROW_GROUP_SIZE = 65536;
+
+    private final DataOutputStream out;
+    private final int rowGroupSize;
+    private final long[] ids;
+    private final long[] created;
+    private final long[] amounts;
+    private final long[] types;
+    private final long[] accounts;
+    private final long[] descriptions;
+    private final Map<Long, Integer> accountIndex = new HashMap<>();
+    private final List<TransactionRow> accountDictionary = new ArrayList<>();
+    private final Map<String, Integer> descriptionIndex = new HashMap<>();
+    private final List<String> descriptionDictionary = new ArrayList<>();
+    private int rows;
+    private boolean finished;
+
+    public TransactionBinaryWriter(OutputStream out) throws IOException {
+        this(out, DEFAULT_ROW_GROUP_SIZE);
+    }
+
+    public TransactionBinaryWriter(OutputStream out, int rowGroupSize) throws IOException {
+        if (rowGroupSize < 1) {
+            throw new IllegalArgumentException("Row group size must be positive");
+        }
+        this.out = new DataOutputStream(new BufferedOutputStream(out, 1 << 16));
+        this.rowGroupSize = rowGroupSize;
+        this.ids = new long[rowGroupSize];
+        this.created = new long[rowGroupSize];
+        this.amounts = new long[rowGroupSize];
+        this.types = new long[rowGroupSize];
+        this.accounts = new long[rowGroupSize];
+        this.descriptions = new long[rowGroupSize];
+        this.out.writeInt(MAGIC);
+        this.out.writeByte(VERSION);
+    }
+
+    public void write(TransactionRow row) throws IOException {
+        ids[rows] = row.id();
+        created[rows] = row.created().getTime();
+        amounts[rows] = zigzag(row.amount());
+        types[rows] = row.transactionType() == TransactionType.PROFIT ? 1 : 0;
+        accounts[rows] = accountIndex.computeIfAbsent(row.accountId(), id -> {
+            accountDictionary.add(row);
+            return accountDictionary.size() - 1;
+        });
+        descriptions[rows] = row.description() == null ? 0 : descriptionIndex.computeIfAbsent(row.description(), d -> {
+            descriptionDictionary.add(d);
+            return descriptionDictionary.size();
+        });
+        if (++rows == rowGroupSize) {
+            writeRowGroup();
+        }
+    }
+
+    public void finish() throws IOException {
+        if (finished) {
+            return;
+        }
+        if (rows > 0) {
+            writeRowGroup();
+        }
+        writeVarLong(out, 0);
+        out.flush();
+        finished = true;
+    }
+
+    @Override
+    public void close() throws IOException {
+        finish();
+        out.close();
+    }
+
+    private void writeRowGroup() throws IOException {
+        writeVarLong(out, rows);
+        writeDeltas(ids);
+        writeDeltas(created);
+
+        long maxAmount = 0;
+        for (int i = 0; i < rows; i++) {
+            maxAmount |= amounts[i];
+        }
+        writePacked(out, amounts, rows, bitsRequired(maxAmount));
+        writePacked(out, types, rows, 1);
+
+        writeVarLong(out, accountDictionary.size());
+        for (TransactionRow account : accountDictionary) {
+            writeVarLong(out, account.accountId());
+            writeString(out, account.accountName());
+        }
+        writePacked(out, accounts, rows, bitsRequired(accountDictionary.size() - 1));
+
+        writeVarLong(out, descriptionDictionary.size());
+        for (String description : descriptionDictionary) {
+            writeString(out, description);
+        }
+        writePacked(out, descriptions, rows, bitsRequired(descriptionDictionary.size()));
+
+        accountIndex.clear();
+        accountDictionary.clear();
+        descriptionIndex.clear();
+        descriptionDictionary.clear();
+        rows = 0;
+    }
+
+    private void writeDeltas(long[] values) throws IOException {
+        long previous = 0;
+        for (int i = 0; i < rows; i++) {
+            writeVarLong(out, zigzag(values[i] - previous));
+            previous = values[i];
+        }
+    }
+}
@@ -0,0 +1,179 @@
+package my.finances.service.export;
+
+import com.opencsv.CSVWriter;
+import jakarta.annotation.PreDestroy;
+import jakarta.persistence.EntityManager;
+import my.finances.config.WorkerThreads;
+import my.finances.dto.IdRange;
+import my.finances.exception.InvalidDataException;
+import my.finances.metrics.ExportMetrics;
+import my.finances.persistence.entity.Transaction;
+import my.finances.persistence.repository.TransactionRepository;
+import io.micrometer.core.instrument.Counter;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.data.domain.PageRequest;
+import org.springframework.data.domain.Pageable;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import java.io.IOException;
+import java.io.StringWriter;
+import java.io.Writer;
+import java.util.ArrayDeque;
+import java.util.Collection;
+import java.util.Deque;
+import java.util.List;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+import java.util.function.LongConsumer;
+import java.util.stream.Stream;
+
+@Component
+public class TransactionCsvExporter {
+
+    public static final String[] HEADER = {"Transaction ID", "Type", "Amount", "Account ID", "Description", "Created"};
+
+    private final TransactionRepository transactionRepository;
+    private final EntityManager entityManager;
+    private final TransactionTemplate readOnlyTransaction;
+    private final ExecutorService executor;
+    private final Counter exportedRows;
+    private final int maxParallelism;
+    private final Pageable chunkEnd;
+
+    public TransactionCsvExporter(TransactionRepository transactionRepository,
+                                  EntityManager entityManager,
+                                  PlatformTransactionManager transactionManager,
+                                  WorkerThreads workerThreads,
+                                  ExportMetrics exportMetrics,
+                                  @Value("${finance.export.max-parallelism:0}") int maxParallelism,
+                                  @Value("${finance.export.chunk-size:10000}") int chunkSize) {
+        this.transactionRepository = transactionRepository;
+        this.entityManager = entityManager;
+        this.readOnlyTransaction = new TransactionTemplate(transactionManager);
+        this.readOnlyTransaction.setReadOnly(true);
+        this.maxParallelism = maxParallelism > 0 ? maxParallelism : Runtime.getRuntime().availableProcessors();
+        this.chunkEnd = PageRequest.of(Math.max(1, chunkSize) - 1, 1);
+        this.executor = Executors.newFixedThreadPool(this.maxParallelism, workerThreads.factory("csv-export-"));
+        this.exportedRows = exportMetrics.rows(ExportMetrics.CSV);
+    }
+
+    public void checkParallelism(int parallelism) {
+        if (parallelism < 1 || parallelism > maxParallelism) {
+            throw new InvalidDataException("Parallelism must be between 1 and " + maxParallelism);
+        }
+    }
+
+    public void export(Long accountId, int parallelism, Writer out) {
+        export(accountId, parallelism, out, rows -> {});
+    }
+
+    public void export(Long accountId, int parallelism, Writer out, LongConsumer listener) {
+        checkParallelism(parallelism);
+        LongConsumer progress = listener.andThen(exportedRows::increment);
+        CSVWriter writer = new CSVWriter(out);
+        writer.writeNext(HEADER);
+        if (parallelism == 1) {
+            readOnlyTransaction.executeWithoutResult(status -> {
+                try (Stream<Transaction> transactions = accountId == null
+                        ? transactionRepository.streamAll()
+                        : transactionRepository.streamAllByAccountId(accountId)) {
+                    transactions.forEach(e -> {
+                        writer.writeNext(toRow(e));
+                        entityManager.detach(e);
+                        progress.accept(1);
+                    });
+                }
+            });
+        } else {
+            exportPartitioned(accountId, parallelism, out, progress);
+        }
+        try {
+            writer.flush();
+        } catch (IOException e) {
+            throw new SecurityException(e);
+        }
+    }
+
+    private void exportPartitioned(Long accountId, int parallelism, Writer out, LongConsumer progress) {
+        IdRange range = readOnlyTransaction.execute(status -> accountId == null
+                ? transactionRepository.findIdRange()
+                : transactionRepository.findIdRangeByAccountId(accountId));
+        if (range == null || range.isEmpty()) {
+            return;
+        }
+        Deque<Future<Chunk>> inFlight = new ArrayDeque<>();
+        long after = range.min() - 1;
+        try {
+            while (after < range.max() || !inFlight.isEmpty()) {
+                while (after < range.max() && inFlight.size() < parallelism) {
+                    long from = after + 1;
+                    long to = findChunkEnd(accountId, after, range.max());
+                    inFlight.add(executor.submit(() -> formatChunk(accountId, from, to)));
+                    after = to;
+                }
+                Chunk chunk = inFlight.remove().get();
+                out.write(chunk.csv());
+                progress.accept(chunk.rows());
+            }
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+            throw new SecurityException(e);
+        } catch (ExecutionException e) {
+            if (e.getCause() instanceof RuntimeException cause) {
+                throw cause;
+            }
+            throw new SecurityException(e.getCause());
+        } catch (IOException e) {
+            throw new SecurityException(e);
+        } finally {
+            inFlight.forEach(e -> e.cancel(true));
+        }
+    }
+
+    /**
+     * Returns the id of the last row in the chunk that starts after {@code after}, so every chunk holds
+     * {@code finance.export.chunk-size} rows of the export however sparse its ids are. Only the id index is read.
+     */
+    private long findChunkEnd(Long accountId, long after, long max) {
+        List<Long> ids = readOnlyTransaction.execute(status -> accountId == null
+                ? transactionRepository.findIdsAfter(after, chunkEnd)
+                : transactionRepository.findIdsByAccountIdAfter(accountId, after, chunkEnd));
+        return ids == null || ids.isEmpty() ? max : Math.min(ids.get(0), max);
+    }
+
+    private Chunk formatChunk(Long accountId, long from, long to) {
+        Collection<Transaction> transactions = readOnlyTransaction.execute(status -> accountId == null
+                ? transactionRepository.findAllInIdRange(from, to)
+                : transactionRepository.findAllByAccountIdInIdRange(accountId, from, to));
+        if (transactions == null) {
+            return new Chunk("", 0);
+        }
+        StringWriter chunk = new StringWriter();
+        CSVWriter writer = new CSVWriter(chunk);
+        transactions.forEach(e -> writer.writeNext(toRow(e)));
+        return new Chunk(chunk.toString(), transactions.size());
+    }
+
+    private String[] toRow(Transaction transaction) {
+        String[] strings = new String[6];
+        strings[0] = Long.toString(transaction.getId());
+        strings[1] = transaction.getTransactionType().toString();
+        strings[2] = Integer.toString(transaction.getAmount());
+        strings[3] = Long.toString(transaction.getAccount().getId());
+        strings[4] = transaction.getDescription();
+        strings[5] = transaction.getCreated().toString();
+        return strings;
+    }
+
+    private record Chunk(String csv, int rows) {
+    }
+
+    @PreDestroy
+    public void shutdown() {
+        executor.shutdownNow();
+    }
+}
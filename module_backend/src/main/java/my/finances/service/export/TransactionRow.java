@@ -0,0 +1,22 @@
+package my.finances.service.export;
+
+import my.finances.persistence.entity.Transaction;
+import my.finances.persistence.types.TransactionType;
+
+import java.util.Date;
+
+public record TransactionRow(long id, TransactionType transactionType, int amount, long accountId,
+                             String accountName, String description, Date created) {
+
+    public static TransactionRow of(Transaction transaction) {
+        return new TransactionRow(
+                transaction.getId(),
+                transaction.getTransactionType(),
+                transaction.getAmount(),
+                transaction.getAccount().getId(),
+                transaction.getAccount().getName(),
+                transaction.getDescription(),
+                transaction.getCreated()
+        );
+    }
+}
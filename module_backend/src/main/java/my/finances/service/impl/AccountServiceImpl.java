@@ -4,18 +4,29 @@ import jakarta.persistence.EntityNotFoundException;
 
 import lombok.AllArgsConstructor;
 
+import my.finances.dto.AccountShortInfo;
+import my.finances.dto.AccountWithTransactionsDTO;
+import my.finances.event.AccountChangedEvent;
 import my.finances.exception.InvalidDataException;
 import my.finances.persistence.entity.Account;
+import my.finances.persistence.entity.BalanceHistory;
 import my.finances.persistence.repository.AccountRepository;
+import my.finances.persistence.repository.BalanceHistoryRepository;
 import my.finances.persistence.repository.TransactionRepository;
+import my.finances.persistence.repository.TransactionRollupRepository;
 import my.finances.persistence.repository.UserRepository;
 import my.finances.service.AccountService;
 
+import org.springframework.context.ApplicationEventPublisher;
+import org.springframework.data.domain.PageRequest;
+import org.springframework.data.domain.Pageable;
 import org.springframework.stereotype.Service;
 import org.springframework.transaction.annotation.Transactional;
 
 import java.util.Collection;
 import java.util.Collections;
+import java.util.Date;
+import java.util.List;
 import java.util.Objects;
 
 @Service
@@ -25,6 +36,9 @@ public class AccountServiceImpl implements AccountService {
     private final AccountRepository accountRepository;
     private final UserRepository userRepository;
     private final TransactionRepository transactionRepository;
+    private final BalanceHistoryRepository balanceHistoryRepository;
+    private final TransactionRollupRepository transactionRollupRepository;
+    private final ApplicationEventPublisher eventPublisher;
 
     @Override
     @Transactional
@@ -40,12 +54,10 @@ public class AccountServiceImpl implements AccountService {
     @Transactional
     public void create(Account entity, Long ownerId) {
         checkAccountData(entity);
-        if (userRepository.findById(ownerId).isEmpty()) {
-            throw new EntityNotFoundException("Owner doesn't exist");
-        } else {
-            entity.setOwner(userRepository.findById(ownerId).get());
-            accountRepository.save(entity);
-        }
+        entity.setOwner(userRepository.findById(ownerId)
+                .orElseThrow(() -> new EntityNotFoundException("Owner doesn't exist")));
+        accountRepository.save(entity);
+        balanceHistoryRepository.save(new BalanceHistory(entity.getId(), null, entity.getBalance(), entity.getCreated()));
     }
 
     @Override
@@ -54,23 +66,68 @@ public class AccountServiceImpl implements AccountService {
         return accountRepository.findById(id).orElseThrow(() -> new EntityNotFoundException("Entity doesn't exist"));
     }
 
+    @Override
+    @Transactional(readOnly = true)
+    public boolean existsBefore(long id) {
+        return accountRepository.existsByIdLessThan(id);
+    }
+
+    @Transactional(readOnly = true)
+    @Override
+    public AccountWithTransactionsDTO findDetailsById(long id) {
+        return accountRepository.findDetailsById(id).orElseThrow(() -> new EntityNotFoundException("Entity doesn't exist"));
+    }
+
     @Transactional
     @Override
     public Collection<Account> findAll() {
         return accountRepository.findAll();
     }
 
+    @Transactional
+    @Override
+    public List<AccountShortInfo> findAllWithTransactionNumber(long after, Pageable pageable) {
+        return accountRepository.findAllWithTransactionNumberAfter(after, pageable);
+    }
+
+    @Transactional
+    @Override
+    public List<AccountShortInfo> findAllWithTransactionNumberBefore(long before, Pageable pageable) {
+        return accountRepository.findAllWithTransactionNumberBefore(before, pageable);
+    }
+
+    @Transactional
+    @Override
+    public Collection<AccountShortInfo> findAllWithTransactionNumberByUserId(long id) {
+        return accountRepository.findAllWithTransactionNumberByOwnerId(id);
+    }
+
+    @Transactional(readOnly = true)
+    @Override
+    public int findBalanceAt(long id, Date at) {
+        Account account = findById(id);
+        if (account.getCreated().after(at)) {
+            return 0;
+        }
+        List<Integer> balances = balanceHistoryRepository.findBalancesAtOrBefore(id, at, PageRequest.of(0, 1));
+        if (!balances.isEmpty()) {
+            return balances.get(0);
+        }
+        return (int) (account.getBalance() - transactionRepository.sumSignedAmountsAfter(id, at));
+    }
+
     @Transactional
     @Override
     public void update(Account entity, Long id) {
         checkAccountData(entity);
-        if (accountRepository.findById(id).isEmpty()) {
-            throw new EntityNotFoundException("Entity doesn't exist");
-        } else {
-            entity.setId(id);
-            entity.setOwner(accountRepository.findById(id).get().getOwner());
-            accountRepository.save(entity);
-        }
+        Account existing = accountRepository.findById(id)
+                .orElseThrow(() -> new EntityNotFoundException("Entity doesn't exist"));
+        entity.setId(id);
+        entity.setCreated(existing.getCreated());
+        entity.setOwner(existing.getOwner());
+        accountRepository.save(entity);
+        balanceHistoryRepository.save(new BalanceHistory(id, null, entity.getBalance(), new Date()));
+        eventPublisher.publishEvent(new AccountChangedEvent(id));
     }
 
     @Transactional
@@ -79,8 +136,11 @@ public class AccountServiceImpl implements AccountService {
         if (accountRepository.findById(id).isEmpty()) {
             throw new EntityNotFoundException("Entity doesn't exist");
         } else {
+            balanceHistoryRepository.deleteAllByAccountId(id);
+            transactionRollupRepository.deleteAllByAccountId(id);
             transactionRepository.findAllByAccountId(id).forEach(e -> transactionRepository.deleteById(e.getId()));
             accountRepository.deleteById(id);
+            eventPublisher.publishEvent(new AccountChangedEvent(id));
         }
     }
 
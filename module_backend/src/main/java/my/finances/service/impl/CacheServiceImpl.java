@@ -0,0 +1,44 @@
+package my.finances.service.impl;
+
+import jakarta.persistence.EntityManagerFactory;
+import lombok.AllArgsConstructor;
+import my.finances.dto.CacheRegionStats;
+import my.finances.persistence.cache.EntityCacheInvalidator;
+import my.finances.service.CacheService;
+import org.hibernate.SessionFactory;
+import org.hibernate.stat.CacheRegionStatistics;
+import org.hibernate.stat.Statistics;
+import org.springframework.stereotype.Service;
+
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.List;
+
+@Service
+@AllArgsConstructor
+public class CacheServiceImpl implements CacheService {
+
+    private final EntityManagerFactory entityManagerFactory;
+    private final EntityCacheInvalidator entityCacheInvalidator;
+
+    @Override
+    public List<CacheRegionStats> findStats() {
+        Statistics statistics = entityManagerFactory.unwrap(SessionFactory.class).getStatistics();
+        String[] regions = statistics.getSecondLevelCacheRegionNames();
+        Arrays.sort(regions);
+        List<CacheRegionStats> stats = new ArrayList<>(regions.length);
+        for (String region : regions) {
+            CacheRegionStatistics regionStatistics = statistics.getDomainDataRegionStatistics(region);
+            long hits = regionStatistics.getHitCount();
+            long misses = regionStatistics.getMissCount();
+            stats.add(new CacheRegionStats(region, hits, misses, regionStatistics.getPutCount(),
+                    hits + misses == 0 ? 0 : (double) hits / (hits + misses)));
+        }
+        return stats;
+    }
+
+    @Override
+    public void evictAll() {
+        entityCacheInvalidator.evictAll();
+    }
+}
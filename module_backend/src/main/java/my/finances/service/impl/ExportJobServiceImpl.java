@@ -0,0 +1,191 @@
+package my.finances.service.impl;
+
+import jakarta.annotation.PreDestroy;
+import jakarta.persistence.EntityNotFoundException;
+import my.finances.config.WorkerThreads;
+import my.finances.exception.InvalidDataException;
+import my.finances.metrics.ExportMetrics;
+import my.finances.persistence.repository.AccountRepository;
+import my.finances.persistence.repository.TransactionRepository;
+import my.finances.service.ExportJobService;
+import my.finances.service.export.ExportJob;
+import my.finances.service.export.ExportJobState;
+import my.finances.service.export.TransactionCsvExporter;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Service;
+
+import java.io.BufferedWriter;
+import java.io.FilterOutputStream;
+import java.io.IOException;
+import java.io.OutputStream;
+import java.io.OutputStreamWriter;
+import java.io.Writer;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.Date;
+import java.util.Map;
+import java.util.UUID;
+import java.util.concurrent.ArrayBlockingQueue;
+import java.util.concurrent.CancellationException;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ThreadPoolExecutor;
+import java.util.concurrent.TimeUnit;
+
+@Service
+public class ExportJobServiceImpl implements ExportJobService {
+
+    private final AccountRepository accountRepository;
+    private final TransactionRepository transactionRepository;
+    private final TransactionCsvExporter transactionCsvExporter;
+    private final ExportMetrics exportMetrics;
+    private final Path directory;
+    private final long retentionMillis;
+    private final ThreadPoolExecutor executor;
+    private final Map<String, ExportJob> jobs = new ConcurrentHashMap<>();
+
+    public ExportJobServiceImpl(AccountRepository accountRepository,
+                                TransactionRepository transactionRepository,
+                                TransactionCsvExporter transactionCsvExporter,
+                                ExportMetrics exportMetrics,
+                                WorkerThreads workerThreads,
+                                @Value("${finance.export.jobs.dir:${java.io.tmpdir}/my-finances-exports}") Path directory,
+                                @Value("${finance.export.jobs.threads:2}") int threads,
+                                @Value("${finance.export.jobs.queue-capacity:16}") int queueCapacity,
+                                @Value("${finance.export.jobs.retention-minutes:60}") long retentionMinutes) {
+        this.accountRepository = accountRepository;
+        this.transactionRepository = transactionRepository;
+        this.transactionCsvExporter = transactionCsvExporter;
+        this.exportMetrics = exportMetrics;
+        this.directory = directory;
+        this.retentionMillis = TimeUnit.MINUTES.toMillis(retentionMinutes);
+        this.executor = new ThreadPoolExecutor(threads, threads, 0, TimeUnit.MILLISECONDS,
+                new ArrayBlockingQueue<>(queueCapacity), workerThreads.factory("export-job-"));
+    }
+
+    @Override
+    public ExportJob submit(Long accountId, int parallelism) {
+        if (accountId != null && accountRepository.findById(accountId).isEmpty()) {
+            throw new InvalidDataException("Invalid id");
+        }
+        transactionCsvExporter.checkParallelism(parallelism);
+        purgeExpiredJobs();
+        String id = UUID.randomUUID().toString();
+        ExportJob job = new ExportJob(id, accountId, parallelism, directory.resolve(id + ".csv"));
+        jobs.put(id, job);
+        try {
+            job.setFuture(executor.submit(() -> run(job)));
+        } catch (RuntimeException e) {
+            jobs.remove(id);
+            throw e;
+        }
+        return job;
+    }
+
+    @Override
+    public ExportJob findById(String id) {
+        ExportJob job = jobs.get(id);
+        if (job == null) {
+            throw new EntityNotFoundException("Export job doesn't exist");
+        }
+        return job;
+    }
+
+    @Override
+    public ExportJob cancel(String id) {
+        ExportJob job = findById(id);
+        if (job.cancel()) {
+            job.setFinished(new Date());
+            job.getFuture().cancel(true);
+        }
+        return job;
+    }
+
+    @Override
+    public Path findFile(String id) {
+        ExportJob job = findById(id);
+        if (job.getState() != ExportJobState.DONE) {
+            throw new InvalidDataException("Export is not finished");
+        }
+        return job.getFile();
+    }
+
+    private void run(ExportJob job) {
+        if (!job.transition(ExportJobState.QUEUED, ExportJobState.RUNNING)) {
+            return;
+        }
+        job.setStarted(new Date());
+        try {
+            job.setTotalRows(job.getAccountId() == null
+                    ? transactionRepository.count()
+                    : transactionRepository.countByAccountId(job.getAccountId()));
+            Files.createDirectories(directory);
+            try (Writer out = new BufferedWriter(new OutputStreamWriter(new CountingOutputStream(
+                    exportMetrics.counting(ExportMetrics.CSV, Files.newOutputStream(job.getFile())), job),
+                    StandardCharsets.UTF_8))) {
+                transactionCsvExporter.export(job.getAccountId(), job.getParallelism(), out, rows -> {
+                    if (job.isCancelled()) {
+                        throw new CancellationException();
+                    }
+                    job.getRowsWritten().addAndGet(rows);
+                });
+            }
+            if (job.transition(ExportJobState.RUNNING, ExportJobState.DONE)) {
+                job.setFinished(new Date());
+            } else {
+                deleteFile(job);
+            }
+        } catch (Exception e) {
+            if (job.transition(ExportJobState.RUNNING, ExportJobState.FAILED)) {
+                job.setError(e.getMessage());
+                job.setFinished(new Date());
+            }
+            deleteFile(job);
+        }
+    }
+
+    private void purgeExpiredJobs() {
+        long now = System.currentTimeMillis();
+        jobs.values().removeIf(job -> {
+            boolean expired = job.getState().isFinished() && job.getFinished() != null
+                    && now - job.getFinished().getTime() > retentionMillis;
+            if (expired) {
+                deleteFile(job);
+            }
+            return expired;
+        });
+    }
+
+    private void deleteFile(ExportJob job) {
+        try {
+            Files.deleteIfExists(job.getFile());
+        } catch (IOException ignored) {
+        }
+    }
+
+    @PreDestroy
+    public void shutdown() {
+        executor.shutdownNow();
+    }
+
+    private static class CountingOutputStream extends FilterOutputStream {
+        private final ExportJob job;
+
+        CountingOutputStream(OutputStream out, ExportJob job) {
+            super(out);
+            this.job = job;
+        }
+
+        @Override
+        public void write(int b) throws IOException {
+            out.write(b);
+            job.getBytesWritten().incrementAndGet();
+        }
+
+        @Override
+        public void write(byte[] b, int off, int len) throws IOException {
+            out.write(b, off, len);
+            job.getBytesWritten().addAndGet(len);
+        }
+    }
+}
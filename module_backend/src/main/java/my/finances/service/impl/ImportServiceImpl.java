@@ -0,0 +1,279 @@
+package my.finances.service.impl;
+
+import com.opencsv.CSVReader;
+import com.opencsv.exceptions.CsvValidationException;
+import jakarta.annotation.PreDestroy;
+import my.finances.config.WorkerThreads;
+import my.finances.dto.ImportResult;
+import my.finances.exception.ImportInProgressException;
+import my.finances.exception.InvalidDataException;
+import my.finances.persistence.entity.ImportCheckpoint;
+import my.finances.persistence.repository.AccountRepository;
+import my.finances.persistence.repository.ImportCheckpointRepository;
+import my.finances.persistence.repository.LedgerJdbcRepository;
+import my.finances.persistence.types.TransactionType;
+import my.finances.service.ImportService;
+import my.finances.service.export.TransactionCsvExporter;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.dao.DataIntegrityViolationException;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import java.io.IOException;
+import java.io.Reader;
+import java.sql.Timestamp;
+import java.time.ZonedDateTime;
+import java.time.format.DateTimeFormatter;
+import java.time.format.DateTimeParseException;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Date;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Locale;
+import java.util.Optional;
+import java.util.Set;
+import java.util.UUID;
+import java.util.concurrent.ArrayBlockingQueue;
+import java.util.concurrent.BlockingQueue;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+import java.util.concurrent.TimeUnit;
+
+@Service
+public class ImportServiceImpl implements ImportService {
+
+    private static final int MAX_REJECTIONS = 100;
+    private static final DateTimeFormatter DATE_FORMAT = DateTimeFormatter.ofPattern("EEE MMM dd HH:mm:ss zzz yyyy", Locale.US);
+    private static final Chunk ABORT = new Chunk(List.of(), 0, 0, true);
+
+    private final AccountRepository accountRepository;
+    private final ImportCheckpointRepository importCheckpointRepository;
+    private final LedgerJdbcRepository ledgerJdbcRepository;
+    private final TransactionTemplate transaction;
+    private final ExecutorService writers;
+    private final int chunkSize;
+    private final int queueCapacity;
+    private final long claimTimeoutMillis;
+
+    public ImportServiceImpl(AccountRepository accountRepository,
+                             ImportCheckpointRepository importCheckpointRepository,
+                             LedgerJdbcRepository ledgerJdbcRepository,
+                             PlatformTransactionManager transactionManager,
+                             WorkerThreads workerThreads,
+                             @Value("${finance.import.writer-threads:2}") int writerThreads,
+                             @Value("${finance.import.chunk-size:1000}") int chunkSize,
+                             @Value("${finance.import.queue-capacity:4}") int queueCapacity,
+                             @Value("${finance.import.claim-timeout-minutes:10}") long claimTimeoutMinutes) {
+        this.accountRepository = accountRepository;
+        this.importCheckpointRepository = importCheckpointRepository;
+        this.ledgerJdbcRepository = ledgerJdbcRepository;
+        this.transaction = new TransactionTemplate(transactionManager);
+        this.chunkSize = Math.max(1, chunkSize);
+        this.queueCapacity = Math.max(1, queueCapacity);
+        this.claimTimeoutMillis = TimeUnit.MINUTES.toMillis(claimTimeoutMinutes);
+        this.writers = Executors.newFixedThreadPool(writerThreads, workerThreads.factory("csv-import-writer-"));
+    }
+
+    @Override
+    public ImportResult importTransactions(String importKey, Reader in) {
+        ImportCheckpoint checkpoint = claimCheckpoint(importKey);
+        if (checkpoint.isCompleted()) {
+            return new ImportResult(checkpoint, checkpoint.getLastRow(), 0, List.of());
+        }
+        long checkpointId = checkpoint.getId();
+        try {
+            return importClaimed(checkpoint, in);
+        } finally {
+            transaction.executeWithoutResult(status -> importCheckpointRepository.release(checkpointId));
+        }
+    }
+
+    private ImportResult importClaimed(ImportCheckpoint checkpoint, Reader in) {
+        long resumedFrom = checkpoint.getLastRow();
+        long checkpointId = checkpoint.getId();
+        List<String> rejections = new ArrayList<>();
+        long started = System.nanoTime();
+        long rows = 0;
+        String error = null;
+
+        try (CSVReader reader = new CSVReader(in)) {
+            String[] header = reader.readNext();
+            if (header == null || !Arrays.equals(header, TransactionCsvExporter.HEADER)) {
+                throw new InvalidDataException("Unexpected CSV header");
+            }
+            Set<Long> accountIds = new HashSet<>(accountRepository.findAllIds());
+            BlockingQueue<Chunk> queue = new ArrayBlockingQueue<>(queueCapacity);
+            Future<?> writer = writers.submit(() -> write(checkpointId, queue));
+            try {
+                List<LedgerJdbcRepository.Entry> entries = new ArrayList<>(chunkSize);
+                long rejected = 0;
+                long row = 0;
+                String[] line;
+                while ((line = reader.readNext()) != null) {
+                    row++;
+                    if (row <= resumedFrom) {
+                        continue;
+                    }
+                    rows++;
+                    try {
+                        entries.add(parse(line, accountIds));
+                    } catch (RuntimeException e) {
+                        rejected++;
+                        if (rejections.size() < MAX_REJECTIONS) {
+                            rejections.add("Row " + row + ": " + e.getMessage());
+                        }
+                    }
+                    if (entries.size() == chunkSize) {
+                        put(queue, new Chunk(entries, row, rejected, false), writer);
+                        entries = new ArrayList<>(chunkSize);
+                        rejected = 0;
+                    }
+                }
+                put(queue, new Chunk(entries, Math.max(row, resumedFrom), rejected, true), writer);
+                writer.get();
+            } catch (Exception e) {
+                queue.clear();
+                queue.offer(ABORT);
+                awaitQuietly(writer);
+                throw e;
+            }
+        } catch (ExecutionException e) {
+            error = e.getCause().getMessage();
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+            error = "Import interrupted";
+        } catch (IOException | CsvValidationException e) {
+            error = e.getMessage();
+        }
+
+        long elapsed = Math.max(1, System.nanoTime() - started);
+        ImportResult result = new ImportResult(importCheckpointRepository.findById(checkpointId).orElseThrow(),
+                resumedFrom, rows * TimeUnit.SECONDS.toNanos(1) / elapsed, rejections);
+        result.setError(error);
+        return result;
+    }
+
+    /**
+     * Returns the checkpoint for {@code importKey} either completed or claimed by this call, so that two requests
+     * with the same key never import the same rows. A claim left behind by a crashed run expires after the claim
+     * timeout, counted from the last committed chunk.
+     */
+    private ImportCheckpoint claimCheckpoint(String importKey) {
+        if (importKey == null) {
+            return transaction.execute(status -> createCheckpoint(UUID.randomUUID().toString()));
+        }
+        Optional<ImportCheckpoint> existing = transaction.execute(status -> importCheckpointRepository.findByImportKey(importKey));
+        if (existing.isEmpty()) {
+            try {
+                return transaction.execute(status -> createCheckpoint(importKey));
+            } catch (DataIntegrityViolationException e) {
+                existing = transaction.execute(status -> importCheckpointRepository.findByImportKey(importKey));
+            }
+        }
+        long checkpointId = existing.orElseThrow(() -> new ImportInProgressException(importKey)).getId();
+        return transaction.execute(status -> {
+            Date now = new Date();
+            int claimed = importCheckpointRepository.claim(checkpointId, now, new Date(now.getTime() - claimTimeoutMillis));
+            ImportCheckpoint checkpoint = importCheckpointRepository.findById(checkpointId).orElseThrow();
+            if (claimed == 0 && !checkpoint.isCompleted()) {
+                throw new ImportInProgressException(importKey);
+            }
+            return checkpoint;
+        });
+    }
+
+    private ImportCheckpoint createCheckpoint(String importKey) {
+        ImportCheckpoint checkpoint = new ImportCheckpoint();
+        checkpoint.setImportKey(importKey);
+        checkpoint.setRunning(true);
+        checkpoint.setUpdated(new Date());
+        return importCheckpointRepository.saveAndFlush(checkpoint);
+    }
+
+    private void awaitQuietly(Future<?> writer) {
+        try {
+            writer.get();
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+        } catch (ExecutionException ignored) {
+        }
+    }
+
+    private void put(BlockingQueue<Chunk> queue, Chunk chunk, Future<?> writer)
+            throws InterruptedException, ExecutionException {
+        while (!queue.offer(chunk, 100, TimeUnit.MILLISECONDS)) {
+            if (writer.isDone()) {
+                writer.get();
+                throw new IllegalStateException("Import writer stopped");
+            }
+        }
+    }
+
+    private Void write(long checkpointId, BlockingQueue<Chunk> queue) throws InterruptedException {
+        while (true) {
+            Chunk chunk = queue.take();
+            if (chunk == ABORT) {
+                return null;
+            }
+            transaction.executeWithoutResult(status -> {
+                ledgerJdbcRepository.lockAccounts(chunk.accountIds());
+                ledgerJdbcRepository.insertTransactions(chunk.entries());
+                ImportCheckpoint checkpoint = importCheckpointRepository.findById(checkpointId).orElseThrow();
+                checkpoint.setLastRow(chunk.lastRow());
+                checkpoint.setRowsImported(checkpoint.getRowsImported() + chunk.entries().size());
+                checkpoint.setRowsRejected(checkpoint.getRowsRejected() + chunk.rejected());
+                checkpoint.setCompleted(chunk.last());
+                checkpoint.setUpdated(new Date());
+            });
+            if (chunk.last()) {
+                return null;
+            }
+        }
+    }
+
+    private LedgerJdbcRepository.Entry parse(String[] line, Set<Long> accountIds) {
+        if (line.length < TransactionCsvExporter.HEADER.length) {
+            throw new InvalidDataException("Expected " + TransactionCsvExporter.HEADER.length + " columns");
+        }
+        TransactionType type = TransactionType.valueOf(line[1].trim());
+        int amount = Integer.parseInt(line[2].trim());
+        if (amount <= 0) {
+            throw new InvalidDataException("Invalid suma");
+        }
+        long accountId = Long.parseLong(line[3].trim());
+        if (!accountIds.contains(accountId)) {
+            throw new InvalidDataException("Account " + accountId + " does not exist");
+        }
+        String description = line[4].isEmpty() ? null : line[4];
+        return new LedgerJdbcRepository.Entry(accountId, type, amount, description, parseDate(line[5].trim()));
+    }
+
+    private Date parseDate(String value) {
+        try {
+            return Timestamp.valueOf(value);
+        } catch (IllegalArgumentException ignored) {
+        }
+        try {
+            return Date.from(ZonedDateTime.parse(value, DATE_FORMAT).toInstant());
+        } catch (DateTimeParseException e) {
+            throw new InvalidDataException("Invalid date " + value);
+        }
+    }
+
+    @PreDestroy
+    public void shutdown() {
+        writers.shutdownNow();
+    }
+
+    private record Chunk(List<LedgerJdbcRepository.Entry> entries, long lastRow, long rejected, boolean last) {
+        Set<Long> accountIds() {
+            Set<Long> ids = new HashSet<>();
+            entries.forEach(entry -> ids.add(entry.accountId()));
+            return ids;
+        }
+    }
+}
@@ -0,0 +1,106 @@
+package my.finances.service.impl;
+
+import jakarta.persistence.EntityNotFoundException;
+import lombok.extern.slf4j.Slf4j;
+import my.finances.dto.RollupTotal;
+import my.finances.exception.InvalidDataException;
+import my.finances.persistence.repository.AccountRepository;
+import my.finances.persistence.repository.LedgerJdbcRepository;
+import my.finances.persistence.repository.TransactionRollupRepository;
+import my.finances.persistence.repository.UserRepository;
+import my.finances.persistence.types.RollupPeriod;
+import my.finances.service.RollupService;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.TransactionDefinition;
+import org.springframework.transaction.annotation.Transactional;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import java.time.LocalDate;
+import java.util.List;
+
+/**
+ * Daily and monthly expense/profit totals are kept per account in {@code transaction_rollups}. Every write path adds
+ * to them in the same database transaction as the transactions it inserts, under the row locks of the accounts it
+ * touches; the rebuild recomputes one account at a time while holding that account's row lock, so it can run alongside
+ * live transfers and imports. Days are bucketed in {@code finance.rollup.zone} on both paths.
+ */
+@Slf4j
+@Service
+public class RollupServiceImpl implements RollupService {
+
+    private final AccountRepository accountRepository;
+    private final UserRepository userRepository;
+    private final TransactionRollupRepository transactionRollupRepository;
+    private final LedgerJdbcRepository ledgerJdbcRepository;
+    private final TransactionTemplate transaction;
+
+    public RollupServiceImpl(AccountRepository accountRepository,
+                             UserRepository userRepository,
+                             TransactionRollupRepository transactionRollupRepository,
+                             LedgerJdbcRepository ledgerJdbcRepository,
+                             PlatformTransactionManager transactionManager) {
+        this.accountRepository = accountRepository;
+        this.userRepository = userRepository;
+        this.transactionRollupRepository = transactionRollupRepository;
+        this.ledgerJdbcRepository = ledgerJdbcRepository;
+        this.transaction = new TransactionTemplate(transactionManager);
+        this.transaction.setIsolationLevel(TransactionDefinition.ISOLATION_READ_COMMITTED);
+        this.transaction.setPropagationBehavior(TransactionDefinition.PROPAGATION_REQUIRES_NEW);
+    }
+
+    @Override
+    @Transactional(readOnly = true)
+    public List<RollupTotal> findByAccountId(long id, RollupPeriod period, LocalDate from, LocalDate to) {
+        if (accountRepository.findById(id).isEmpty()) {
+            throw new EntityNotFoundException("Entity doesn't exist");
+        }
+        LocalDate end = to != null ? to : LocalDate.now(ledgerJdbcRepository.getRollupZone());
+        return transactionRollupRepository.findTotalsByAccountId(id, period, start(period, from, end), end);
+    }
+
+    @Override
+    @Transactional(readOnly = true)
+    public List<RollupTotal> findByUserId(long id, RollupPeriod period, LocalDate from, LocalDate to) {
+        if (userRepository.findById(id).isEmpty()) {
+            throw new EntityNotFoundException("Entity doesn't exist");
+        }
+        LocalDate end = to != null ? to : LocalDate.now(ledgerJdbcRepository.getRollupZone());
+        return transactionRollupRepository.findTotalsByOwnerId(id, period, start(period, from, end), end);
+    }
+
+    @Override
+    @Scheduled(cron = "${finance.rollup.rebuild-cron:-}")
+    public int rebuildAll() {
+        long started = System.nanoTime();
+        int rebuilt = 0;
+        for (long id : accountRepository.findAllIds()) {
+            if (rebuild(id)) {
+                rebuilt++;
+            }
+        }
+        log.info("Rebuilt rollups for {} accounts in {} ms", rebuilt, (System.nanoTime() - started) / 1_000_000);
+        return rebuilt;
+    }
+
+    @Override
+    public boolean rebuild(long accountId) {
+        return Boolean.TRUE.equals(transaction.execute(status -> {
+            if (!ledgerJdbcRepository.lockAccount(accountId)) {
+                return false;
+            }
+            transactionRollupRepository.deleteAllByAccountId(accountId);
+            ledgerJdbcRepository.rebuildRollups(accountId);
+            return true;
+        }));
+    }
+
+    private LocalDate start(RollupPeriod period, LocalDate from, LocalDate to) {
+        LocalDate start = from != null ? from : period == RollupPeriod.MONTH ? to.minusMonths(11) : to.minusDays(30);
+        if (start.isAfter(to)) {
+            throw new InvalidDataException("Invalid period");
+        }
+        return period.start(start);
+    }
+}
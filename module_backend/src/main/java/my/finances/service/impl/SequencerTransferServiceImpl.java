@@ -0,0 +1,302 @@
+package my.finances.service.impl;
+
+import jakarta.annotation.PreDestroy;
+import jakarta.persistence.EntityNotFoundException;
+import my.finances.dto.AccountBalance;
+import my.finances.dto.BatchItemResult;
+import my.finances.dto.TransactionCreatedDTO;
+import my.finances.event.AccountChangedEvent;
+import my.finances.exception.InsufficientFundsException;
+import my.finances.exception.InvalidDataException;
+import my.finances.exception.TransferRejectedException;
+import my.finances.persistence.repository.AccountRepository;
+import my.finances.persistence.repository.LedgerJdbcRepository;
+import my.finances.persistence.types.TransactionType;
+import my.finances.service.TransferService;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.dao.ConcurrencyFailureException;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.TransactionDefinition;
+import org.springframework.transaction.event.TransactionalEventListener;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import java.util.ArrayList;
+import java.util.Date;
+import java.util.HashMap;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Map;
+import java.util.Queue;
+import java.util.Set;
+import java.util.concurrent.ArrayBlockingQueue;
+import java.util.concurrent.BlockingQueue;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CompletionException;
+import java.util.concurrent.ConcurrentLinkedQueue;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.TimeoutException;
+
+/**
+ * Transfers are queued on a bounded ring and applied by a single sequencer thread in batches, one database transaction
+ * per batch. Each batch locks its accounts, checks every transfer in order against the balances read under those
+ * locks, and each caller is released once the batch holding its transfer has committed.
+ */
+@Service
+@ConditionalOnProperty(name = "finance.transfer.mode", havingValue = "sequencer")
+public class SequencerTransferServiceImpl implements TransferService {
+
+    private final AccountRepository accountRepository;
+    private final LedgerJdbcRepository ledgerJdbcRepository;
+    private final TransactionTemplate transaction;
+    private final BlockingQueue<PendingTransfer> ring;
+    private final Queue<Long> invalidated = new ConcurrentLinkedQueue<>();
+    private final Map<Long, String> owners = new HashMap<>();
+    private final int batchSize;
+    private final long maxDelayNanos;
+    private final long timeoutMillis;
+    private final Thread sequencer;
+    private volatile boolean running = true;
+
+    public SequencerTransferServiceImpl(AccountRepository accountRepository,
+                                        LedgerJdbcRepository ledgerJdbcRepository,
+                                        PlatformTransactionManager transactionManager,
+                                        @Value("${finance.transfer.sequencer.capacity:65536}") int capacity,
+                                        @Value("${finance.transfer.sequencer.batch-size:256}") int batchSize,
+                                        @Value("${finance.transfer.sequencer.max-delay-ms:2}") long maxDelayMillis,
+                                        @Value("${finance.transfer.sequencer.timeout-ms:30000}") long timeoutMillis) {
+        this.accountRepository = accountRepository;
+        this.ledgerJdbcRepository = ledgerJdbcRepository;
+        this.transaction = new TransactionTemplate(transactionManager);
+        this.transaction.setIsolationLevel(TransactionDefinition.ISOLATION_READ_COMMITTED);
+        this.transaction.setPropagationBehavior(TransactionDefinition.PROPAGATION_REQUIRES_NEW);
+        this.ring = new ArrayBlockingQueue<>(capacity);
+        this.batchSize = Math.max(1, batchSize);
+        this.maxDelayNanos = TimeUnit.MILLISECONDS.toNanos(maxDelayMillis);
+        this.timeoutMillis = timeoutMillis;
+        this.sequencer = new Thread(this::run, "transfer-sequencer");
+        this.sequencer.setDaemon(true);
+        this.sequencer.start();
+    }
+
+    @Override
+    public void transfer(TransactionCreatedDTO transactionDTO) {
+        TransferValidation.validate(transactionDTO, accountRepository);
+        await(submit(transactionDTO));
+    }
+
+    @Override
+    public List<BatchItemResult> transferAll(List<TransactionCreatedDTO> transactionDTOs) {
+        TransferValidation.validateBatch(transactionDTOs);
+        List<BatchItemResult> results = new ArrayList<>(transactionDTOs.size());
+        List<CompletableFuture<Void>> submitted = new ArrayList<>(transactionDTOs.size());
+        for (int i = 0; i < transactionDTOs.size(); i++) {
+            try {
+                TransactionCreatedDTO transactionDTO = transactionDTOs.get(i);
+                TransferValidation.validate(transactionDTO, accountRepository);
+                submitted.add(submit(transactionDTO));
+            } catch (RuntimeException e) {
+                submitted.add(CompletableFuture.failedFuture(e));
+            }
+        }
+        for (int i = 0; i < submitted.size(); i++) {
+            try {
+                await(submitted.get(i));
+                results.add(BatchItemResult.succeeded(i));
+            } catch (RuntimeException e) {
+                results.add(BatchItemResult.failed(i, e));
+            }
+        }
+        return results;
+    }
+
+    @TransactionalEventListener(fallbackExecution = true)
+    public void onAccountChanged(AccountChangedEvent event) {
+        invalidated.add(event.accountId());
+    }
+
+    private void await(CompletableFuture<Void> result) {
+        try {
+            result.get(timeoutMillis, TimeUnit.MILLISECONDS);
+        } catch (ExecutionException e) {
+            if (e.getCause() instanceof RuntimeException cause) {
+                throw cause;
+            }
+            throw new CompletionException(e.getCause());
+        } catch (TimeoutException e) {
+            // The batch may still commit later, so the outcome is unknown rather than rejected.
+            throw new CompletionException("Transfer was not confirmed within " + timeoutMillis + " ms", e);
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+            throw new CompletionException(e);
+        }
+    }
+
+    private CompletableFuture<Void> submit(TransactionCreatedDTO transactionDTO) {
+        if (!running) {
+            throw new TransferRejectedException("Transfer sequencer is stopped");
+        }
+        PendingTransfer pending = new PendingTransfer(
+                transactionDTO.getSenderAccId(),
+                transactionDTO.getReceiverAccId(),
+                transactionDTO.getAmount(),
+                transactionDTO.getDescription(),
+                new CompletableFuture<>());
+        try {
+            if (!ring.offer(pending, timeoutMillis, TimeUnit.MILLISECONDS)) {
+                throw new TransferRejectedException("Transfer sequencer is full");
+            }
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+            throw new TransferRejectedException("Interrupted while queueing transfer", e);
+        }
+        // shutdown() may have drained the ring between the running check and the offer; whoever removes the
+        // transfer from the ring owns completing it.
+        if (!running && ring.remove(pending)) {
+            pending.result().completeExceptionally(new TransferRejectedException("Transfer sequencer is stopped"));
+        }
+        return pending.result();
+    }
+
+    private void run() {
+        List<PendingTransfer> batch = new ArrayList<>(batchSize);
+        while (running || !ring.isEmpty()) {
+            try {
+                try {
+                    collect(batch);
+                } catch (InterruptedException e) {
+                    running = false;
+                }
+                if (!batch.isEmpty()) {
+                    process(batch);
+                }
+            } catch (Throwable e) {
+                // Keep the only writer alive: fail this batch and carry on with the next one.
+                batch.forEach(pending -> pending.result().completeExceptionally(e));
+            } finally {
+                batch.clear();
+            }
+        }
+        PendingTransfer pending;
+        while ((pending = ring.poll()) != null) {
+            pending.result().completeExceptionally(new TransferRejectedException("Transfer sequencer is stopped"));
+        }
+    }
+
+    private void collect(List<PendingTransfer> batch) throws InterruptedException {
+        PendingTransfer first = ring.poll(100, TimeUnit.MILLISECONDS);
+        if (first == null) {
+            return;
+        }
+        batch.add(first);
+        long deadline = System.nanoTime() + maxDelayNanos;
+        while (batch.size() < batchSize) {
+            if (ring.drainTo(batch, batchSize - batch.size()) > 0) {
+                continue;
+            }
+            long remaining = deadline - System.nanoTime();
+            PendingTransfer next = remaining > 0 ? ring.poll(remaining, TimeUnit.NANOSECONDS) : null;
+            if (next == null) {
+                return;
+            }
+            batch.add(next);
+        }
+    }
+
+    private void process(List<PendingTransfer> batch) {
+        Long invalid;
+        while ((invalid = invalidated.poll()) != null) {
+            owners.remove(invalid);
+        }
+        Set<Long> ids = new HashSet<>();
+        for (PendingTransfer pending : batch) {
+            ids.add(pending.senderId());
+            ids.add(pending.receiverId());
+        }
+        Map<PendingTransfer, RuntimeException> rejected = new HashMap<>();
+        try {
+            loadMissingOwners(ids);
+            transaction.executeWithoutResult(status -> {
+                rejected.clear();
+                Map<Long, Integer> balances = ledgerJdbcRepository.lockAccounts(ids);
+                Map<Long, Integer> deltas = new HashMap<>();
+                List<LedgerJdbcRepository.Entry> entries = new ArrayList<>(batch.size() * 2);
+                Date created = new Date();
+                for (PendingTransfer pending : batch) {
+                    RuntimeException rejection = check(pending, balances);
+                    if (rejection != null) {
+                        rejected.put(pending, rejection);
+                        continue;
+                    }
+                    balances.merge(pending.senderId(), -pending.amount(), Integer::sum);
+                    balances.merge(pending.receiverId(), pending.amount(), Integer::sum);
+                    deltas.merge(pending.senderId(), -pending.amount(), Integer::sum);
+                    deltas.merge(pending.receiverId(), pending.amount(), Integer::sum);
+                    entries.add(new LedgerJdbcRepository.Entry(pending.senderId(), TransactionType.EXPENSE,
+                            pending.amount(), pending.description(), created));
+                    entries.add(new LedgerJdbcRepository.Entry(pending.receiverId(), TransactionType.PROFIT,
+                            pending.amount(), "Replenishment from " + owners.get(pending.senderId()), created));
+                }
+                if (!entries.isEmpty() && !ledgerJdbcRepository.recordTransfers(deltas, entries)) {
+                    throw new ConcurrencyFailureException("Balance changed concurrently");
+                }
+            });
+        } catch (RuntimeException e) {
+            if (batch.size() == 1) {
+                batch.get(0).result().completeExceptionally(e);
+            } else {
+                batch.forEach(pending -> process(new ArrayList<>(List.of(pending))));
+            }
+            return;
+        }
+        for (PendingTransfer pending : batch) {
+            RuntimeException rejection = rejected.get(pending);
+            if (rejection != null) {
+                pending.result().completeExceptionally(rejection);
+            } else {
+                pending.result().complete(null);
+            }
+        }
+    }
+
+    private void loadMissingOwners(Set<Long> ids) {
+        Set<Long> missing = new HashSet<>(ids);
+        missing.removeAll(owners.keySet());
+        if (missing.isEmpty()) {
+            return;
+        }
+        for (AccountBalance account : accountRepository.findBalancesByIdIn(missing)) {
+            owners.put(account.id(), account.ownerName());
+        }
+    }
+
+    private RuntimeException check(PendingTransfer pending, Map<Long, Integer> balances) {
+        Integer senderBalance = balances.get(pending.senderId());
+        Integer receiverBalance = balances.get(pending.receiverId());
+        if (senderBalance == null || !owners.containsKey(pending.senderId())) {
+            return new EntityNotFoundException("Sender does not exist");
+        }
+        if (receiverBalance == null || !owners.containsKey(pending.receiverId())) {
+            return new EntityNotFoundException("Receiver does not exist");
+        }
+        if (senderBalance < pending.amount()) {
+            return new InsufficientFundsException();
+        }
+        if (receiverBalance > Integer.MAX_VALUE - pending.amount()) {
+            return new InvalidDataException("Balance limit exceeded");
+        }
+        return null;
+    }
+
+    @PreDestroy
+    public void shutdown() throws InterruptedException {
+        running = false;
+        sequencer.join(TimeUnit.SECONDS.toMillis(10));
+    }
+
+    private record PendingTransfer(long senderId, long receiverId, int amount, String description,
+                                   CompletableFuture<Void> result) {
+    }
+}
@@ -0,0 +1,271 @@
+package my.finances.service.impl;
+
+import jakarta.persistence.EntityManager;
+import jakarta.persistence.EntityNotFoundException;
+import my.finances.dto.AccountBalance;
+import my.finances.dto.BatchItemResult;
+import my.finances.dto.TransactionCreatedDTO;
+import my.finances.exception.InsufficientFundsException;
+import my.finances.exception.InvalidDataException;
+import my.finances.persistence.entity.Account;
+import my.finances.persistence.entity.BalanceHistory;
+import my.finances.persistence.entity.Transaction;
+import my.finances.persistence.repository.AccountRepository;
+import my.finances.persistence.repository.BalanceHistoryRepository;
+import my.finances.persistence.repository.LedgerJdbcRepository;
+import my.finances.persistence.repository.TransactionRepository;
+import my.finances.persistence.types.TransactionType;
+import my.finances.service.TransferService;
+import org.hibernate.Hibernate;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.dao.ConcurrencyFailureException;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.TransactionDefinition;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Collection;
+import java.util.Date;
+import java.util.HashMap;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import java.util.concurrent.ThreadLocalRandom;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.locks.LockSupport;
+
+@Service
+@ConditionalOnProperty(name = "finance.transfer.mode", havingValue = "direct", matchIfMissing = true)
+public class TransferServiceImpl implements TransferService {
+
+    private final AccountRepository accountRepository;
+    private final TransactionRepository transactionRepository;
+    private final LedgerJdbcRepository ledgerJdbcRepository;
+    private final BalanceHistoryRepository balanceHistoryRepository;
+    private final EntityManager entityManager;
+    private final TransactionTemplate transaction;
+    private final int maxAttempts;
+    private final long backoffMillis;
+    private final int batchChunkSize;
+
+    public TransferServiceImpl(AccountRepository accountRepository,
+                               TransactionRepository transactionRepository,
+                               LedgerJdbcRepository ledgerJdbcRepository,
+                               BalanceHistoryRepository balanceHistoryRepository,
+                               EntityManager entityManager,
+                               PlatformTransactionManager transactionManager,
+                               @Value("${finance.transfer.max-attempts:3}") int maxAttempts,
+                               @Value("${finance.transfer.retry-backoff-ms:5}") long backoffMillis,
+                               @Value("${finance.transfer.batch.chunk-size:500}") int batchChunkSize) {
+        this.accountRepository = accountRepository;
+        this.transactionRepository = transactionRepository;
+        this.ledgerJdbcRepository = ledgerJdbcRepository;
+        this.balanceHistoryRepository = balanceHistoryRepository;
+        this.entityManager = entityManager;
+        this.transaction = new TransactionTemplate(transactionManager);
+        this.transaction.setIsolationLevel(TransactionDefinition.ISOLATION_READ_COMMITTED);
+        this.maxAttempts = Math.max(1, maxAttempts);
+        this.backoffMillis = backoffMillis;
+        this.batchChunkSize = Math.max(1, batchChunkSize);
+    }
+
+    @Override
+    public void transfer(TransactionCreatedDTO transactionDTO) {
+        TransferValidation.validate(transactionDTO, accountRepository);
+        if (TransactionSynchronizationManager.isActualTransactionActive()) {
+            transaction.executeWithoutResult(status -> apply(transactionDTO));
+            return;
+        }
+        for (int attempt = 1; ; attempt++) {
+            try {
+                transaction.executeWithoutResult(status -> apply(transactionDTO));
+                return;
+            } catch (ConcurrencyFailureException e) {
+                if (attempt >= maxAttempts) {
+                    throw e;
+                }
+                long backoff = backoffMillis * attempt;
+                LockSupport.parkNanos(TimeUnit.MILLISECONDS.toNanos(ThreadLocalRandom.current().nextLong(backoff + 1)));
+            }
+        }
+    }
+
+    @Override
+    public List<BatchItemResult> transferAll(List<TransactionCreatedDTO> transactionDTOs) {
+        TransferValidation.validateBatch(transactionDTOs);
+        BatchItemResult[] results = new BatchItemResult[transactionDTOs.size()];
+        List<Integer> valid = new ArrayList<>(transactionDTOs.size());
+        Set<Long> ids = new HashSet<>();
+        for (int i = 0; i < transactionDTOs.size(); i++) {
+            TransactionCreatedDTO transactionDTO = transactionDTOs.get(i);
+            try {
+                TransferValidation.validate(transactionDTO, accountRepository);
+                valid.add(i);
+                ids.add(transactionDTO.getSenderAccId());
+                ids.add(transactionDTO.getReceiverAccId());
+            } catch (RuntimeException e) {
+                results[i] = BatchItemResult.failed(i, e);
+            }
+        }
+
+        Map<Long, AccountBalance> accounts = new HashMap<>();
+        loadAccounts(ids, accounts);
+        for (int from = 0; from < valid.size(); from += batchChunkSize) {
+            applyChunk(transactionDTOs, valid.subList(from, Math.min(from + batchChunkSize, valid.size())),
+                    accounts, results);
+        }
+        return Arrays.asList(results);
+    }
+
+    /**
+     * Applies one chunk in a single database transaction. The chunk's accounts are locked first and every item is
+     * checked, in order, against the balances read under those locks, so no leg can take an account below zero even
+     * when a later item in the chunk would bring the net change back to zero.
+     */
+    private void applyChunk(List<TransactionCreatedDTO> transactionDTOs, List<Integer> chunk,
+                            Map<Long, AccountBalance> accounts, BatchItemResult[] results) {
+        Set<Long> ids = new HashSet<>();
+        for (int i : chunk) {
+            ids.add(transactionDTOs.get(i).getSenderAccId());
+            ids.add(transactionDTOs.get(i).getReceiverAccId());
+        }
+        Map<Integer, BatchItemResult> chunkResults = new HashMap<>();
+        try {
+            transaction.executeWithoutResult(status -> {
+                chunkResults.clear();
+                Map<Long, Integer> balances = ledgerJdbcRepository.lockAccounts(ids);
+                Map<Long, Integer> deltas = new HashMap<>();
+                List<LedgerJdbcRepository.Entry> entries = new ArrayList<>(chunk.size() * 2);
+                Date created = new Date();
+                for (int i : chunk) {
+                    TransactionCreatedDTO transactionDTO = transactionDTOs.get(i);
+                    AccountBalance sender = accounts.get(transactionDTO.getSenderAccId());
+                    AccountBalance receiver = accounts.get(transactionDTO.getReceiverAccId());
+                    int amount = transactionDTO.getAmount();
+                    if (sender == null || !balances.containsKey(sender.id())) {
+                        chunkResults.put(i, BatchItemResult.failed(i, new EntityNotFoundException("Sender does not exist")));
+                        continue;
+                    }
+                    if (receiver == null || !balances.containsKey(receiver.id())) {
+                        chunkResults.put(i, BatchItemResult.failed(i, new EntityNotFoundException("Receiver does not exist")));
+                        continue;
+                    }
+                    int senderBalance = balances.get(sender.id());
+                    int receiverBalance = balances.get(receiver.id());
+                    if (senderBalance < amount) {
+                        chunkResults.put(i, BatchItemResult.failed(i, new InsufficientFundsException()));
+                        continue;
+                    }
+                    if (receiverBalance > Integer.MAX_VALUE - amount) {
+                        chunkResults.put(i, BatchItemResult.failed(i, new InvalidDataException("Balance limit exceeded")));
+                        continue;
+                    }
+                    balances.put(sender.id(), senderBalance - amount);
+                    balances.put(receiver.id(), receiverBalance + amount);
+                    deltas.merge(sender.id(), -amount, Integer::sum);
+                    deltas.merge(receiver.id(), amount, Integer::sum);
+                    entries.add(new LedgerJdbcRepository.Entry(sender.id(), TransactionType.EXPENSE,
+                            amount, transactionDTO.getDescription(), created));
+                    entries.add(new LedgerJdbcRepository.Entry(receiver.id(), TransactionType.PROFIT,
+                            amount, "Replenishment from " + sender.ownerName(), created));
+                    chunkResults.put(i, BatchItemResult.succeeded(i));
+                }
+                if (!entries.isEmpty() && !ledgerJdbcRepository.recordTransfers(deltas, entries)) {
+                    throw new ConcurrencyFailureException("Balance changed concurrently");
+                }
+            });
+        } catch (RuntimeException e) {
+            chunkResults.clear();
+            for (int i : chunk) {
+                try {
+                    transfer(transactionDTOs.get(i));
+                    chunkResults.put(i, BatchItemResult.succeeded(i));
+                } catch (RuntimeException failure) {
+                    chunkResults.put(i, BatchItemResult.failed(i, failure));
+                }
+            }
+        }
+        chunkResults.forEach((i, result) -> results[i] = result);
+    }
+
+    private void loadAccounts(Collection<Long> ids, Map<Long, AccountBalance> accounts) {
+        List<Long> pending = new ArrayList<>(ids);
+        for (int from = 0; from < pending.size(); from += batchChunkSize) {
+            accountRepository.findBalancesByIdIn(pending.subList(from, Math.min(from + batchChunkSize, pending.size())))
+                    .forEach(account -> accounts.put(account.id(), account));
+        }
+    }
+
+    private void apply(TransactionCreatedDTO transactionDTO) {
+        long senderId = transactionDTO.getSenderAccId();
+        long receiverId = transactionDTO.getReceiverAccId();
+        int amount = transactionDTO.getAmount();
+        if (senderId < receiverId) {
+            debit(senderId, amount);
+            credit(receiverId, amount);
+        } else {
+            credit(receiverId, amount);
+            debit(senderId, amount);
+        }
+        Map<Long, AccountBalance> balances = new HashMap<>();
+        accountRepository.findBalancesByIdIn(List.of(senderId, receiverId))
+                .forEach(account -> balances.put(account.id(), account));
+        AccountBalance senderBalance = balances.get(senderId);
+        AccountBalance receiverBalance = balances.get(receiverId);
+
+        Account sender = refreshIfLoaded(senderId);
+        Account receiver = refreshIfLoaded(receiverId);
+        Transaction transactionSender = new Transaction();
+        transactionSender.setAccount(sender);
+        transactionSender.setDescription(transactionDTO.getDescription());
+        transactionSender.setTransactionType(TransactionType.EXPENSE);
+        transactionSender.setAmount(amount);
+        Transaction transactionReceiver = new Transaction();
+        transactionReceiver.setAccount(receiver);
+        transactionReceiver.setTransactionType(TransactionType.PROFIT);
+        transactionReceiver.setAmount(amount);
+        transactionReceiver.setDescription("Replenishment from " + senderBalance.ownerName());
+        transactionRepository.save(transactionSender);
+        transactionRepository.save(transactionReceiver);
+        balanceHistoryRepository.save(new BalanceHistory(senderId, transactionSender.getId(),
+                senderBalance.balance(), transactionSender.getCreated()));
+        balanceHistoryRepository.save(new BalanceHistory(receiverId, transactionReceiver.getId(),
+                receiverBalance.balance(), transactionReceiver.getCreated()));
+        ledgerJdbcRepository.addToRollups(List.of(
+                new LedgerJdbcRepository.Entry(senderId, TransactionType.EXPENSE, amount,
+                        transactionSender.getDescription(), transactionSender.getCreated()),
+                new LedgerJdbcRepository.Entry(receiverId, TransactionType.PROFIT, amount,
+                        transactionReceiver.getDescription(), transactionReceiver.getCreated())));
+    }
+
+    private void debit(long id, int amount) {
+        if (ledgerJdbcRepository.debit(id, amount) == 0) {
+            if (accountRepository.findById(id).isEmpty()) {
+                throw new EntityNotFoundException("Sender does not exist");
+            }
+            throw new InsufficientFundsException();
+        }
+    }
+
+    private void credit(long id, int amount) {
+        if (ledgerJdbcRepository.credit(id, amount) == 0) {
+            if (accountRepository.findById(id).isEmpty()) {
+                throw new EntityNotFoundException("Receiver does not exist");
+            }
+            throw new InvalidDataException("Balance limit exceeded");
+        }
+    }
+
+    private Account refreshIfLoaded(long id) {
+        Account account = entityManager.getReference(Account.class, id);
+        if (Hibernate.isInitialized(account)) {
+            entityManager.refresh(account);
+        }
+        return account;
+    }
+}
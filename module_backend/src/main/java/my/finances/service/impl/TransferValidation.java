@@ -0,0 +1,40 @@
+package my.finances.service.impl;
+
+import jakarta.persistence.EntityNotFoundException;
+import my.finances.dto.TransactionCreatedDTO;
+import my.finances.exception.InvalidDataException;
+import my.finances.persistence.repository.AccountRepository;
+
+import java.util.List;
+
+final class TransferValidation {
+
+    static final int MAX_BATCH_SIZE = 10_000;
+
+    private TransferValidation() {
+    }
+
+    static void validateBatch(List<TransactionCreatedDTO> transactionDTOs) {
+        if (transactionDTOs == null || transactionDTOs.isEmpty()) {
+            throw new InvalidDataException("Empty batch");
+        }
+        if (transactionDTOs.size() > MAX_BATCH_SIZE) {
+            throw new InvalidDataException("Batch size must not exceed " + MAX_BATCH_SIZE);
+        }
+    }
+
+    static void validate(TransactionCreatedDTO transactionDTO, AccountRepository accountRepository) {
+        if (transactionDTO.getSenderAccId() == null || transactionDTO.getReceiverAccId() == null) {
+            throw new EntityNotFoundException("Id == null");
+        }
+        if (transactionDTO.getSenderAccId().equals(transactionDTO.getReceiverAccId())) {
+            if (accountRepository.findById(transactionDTO.getSenderAccId()).isEmpty()) {
+                throw new EntityNotFoundException("Sender does not exist");
+            }
+            throw new InvalidDataException("Invalid data");
+        }
+        if (transactionDTO.getAmount() == null || transactionDTO.getAmount() <= 0) {
+            throw new InvalidDataException("Invalid suma");
+        }
+    }
+}
@@ -5,16 +5,20 @@ import jakarta.persistence.EntityNotFoundException;
 import lombok.AllArgsConstructor;
 
 import my.finances.dto.UserCreatedDTO;
+import my.finances.dto.UserInfo;
+import my.finances.dto.UserWithAccountNumberDTO;
 import my.finances.exception.InvalidDataException;
 import my.finances.persistence.entity.User;
 import my.finances.persistence.repository.UserRepository;
 import my.finances.service.AccountService;
 import my.finances.service.UserService;
 
+import org.springframework.data.domain.Pageable;
 import org.springframework.stereotype.Service;
 import org.springframework.transaction.annotation.Transactional;
 
 import java.util.Collection;
+import java.util.List;
 
 @Service
 @AllArgsConstructor
@@ -39,18 +43,43 @@ public class UserServiceImpl implements UserService {
         return userRepository.findById(id).orElseThrow(() -> new EntityNotFoundException("Entity doesn't exist"));
     }
 
+    @Transactional(readOnly = true)
+    @Override
+    public boolean existsBefore(long id) {
+        return userRepository.existsByIdLessThan(id);
+    }
+
+    @Transactional(readOnly = true)
+    @Override
+    public UserInfo findInfoById(long id) {
+        return userRepository.findInfoById(id).orElseThrow(() -> new EntityNotFoundException("Entity doesn't exist"));
+    }
+
     @Transactional
     @Override
     public Collection<User> findAll() {
         return userRepository.findAll();
     }
 
+    @Transactional
+    @Override
+    public List<UserWithAccountNumberDTO> findAllWithNumberOfAccounts(long after, Pageable pageable) {
+        return userRepository.findAllWithNumberOfAccountsAfter(after, pageable);
+    }
+
+    @Transactional
+    @Override
+    public List<UserWithAccountNumberDTO> findAllWithNumberOfAccountsBefore(long before, Pageable pageable) {
+        return userRepository.findAllWithNumberOfAccountsBefore(before, pageable);
+    }
+
     @Transactional
     @Override
     public void update(User entity, Long id) {
-        validateUserId(id);
         validateUserEntity(entity);
+        User existing = findById(id);
         entity.setId(id);
+        entity.setCreated(existing.getCreated());
         userRepository.save(entity);
     }
 
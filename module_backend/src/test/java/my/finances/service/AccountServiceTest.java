@@ -1,23 +1,40 @@
 package my.finances.service;
 
+import jakarta.persistence.EntityManagerFactory;
 import jakarta.persistence.EntityNotFoundException;
+import my.finances.dto.AccountShortInfo;
+import my.finances.dto.AccountWithTransactionsDTO;
+import my.finances.dto.TransactionCreatedDTO;
 import my.finances.exception.InvalidDataException;
 import my.finances.persistence.entity.Account;
+import my.finances.persistence.entity.Transaction;
 import my.finances.persistence.entity.User;
 import my.finances.persistence.repository.AccountRepository;
+import my.finances.persistence.repository.BalanceHistoryRepository;
+import my.finances.persistence.repository.TransactionRepository;
 import my.finances.persistence.repository.UserRepository;
+import my.finances.persistence.types.TransactionType;
 
 import org.junit.jupiter.api.Assertions;
 import org.springframework.transaction.annotation.Transactional;
 import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.autoconfigure.web.servlet.AutoConfigureMockMvc;
 import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.data.domain.PageRequest;
 import org.junit.jupiter.api.Test;
+import org.springframework.test.web.servlet.MockMvc;
 
+import java.util.Collection;
+import java.util.Date;
 import java.util.Optional;
 import java.util.Random;
 import java.util.UUID;
 
+import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.get;
+import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.status;
+
 @SpringBootTest
+@AutoConfigureMockMvc
 public class AccountServiceTest {
 
     @Autowired
@@ -29,6 +46,24 @@ public class AccountServiceTest {
     @Autowired
     private UserRepository userRepository;
 
+    @Autowired
+    private TransactionRepository transactionRepository;
+
+    @Autowired
+    private BalanceHistoryRepository balanceHistoryRepository;
+
+    @Autowired
+    private TransferService transferService;
+
+    @Autowired
+    private MockMvc mockMvc;
+
+    @Autowired
+    private QueryCounter queryCounter;
+
+    @Autowired
+    private EntityManagerFactory entityManagerFactory;
+
     @Test
     @Transactional
     public void testCreateValidData() {
@@ -129,6 +164,22 @@ public class AccountServiceTest {
         Assertions.assertThrows(EntityNotFoundException.class, () -> accountService.findById(Long.MIN_VALUE));
     }
 
+    @Test
+    @Transactional
+    public void testFindDetailsById() {
+        User owner = createUser();
+        Account account = createAccount();
+        accountService.create(account, owner.getId());
+
+        AccountWithTransactionsDTO details = accountService.findDetailsById(account.getId());
+
+        Assertions.assertEquals(account.getId(), details.getAccId());
+        Assertions.assertEquals(account.getName(), details.getName());
+        Assertions.assertEquals(account.getBalance(), details.getBalance());
+        Assertions.assertEquals(owner.getId(), details.getUserId());
+        Assertions.assertThrows(EntityNotFoundException.class, () -> accountService.findDetailsById(Long.MIN_VALUE));
+    }
+
     @Test
     @Transactional
     public void testFindAll() {
@@ -194,6 +245,135 @@ public class AccountServiceTest {
         Assertions.assertThrows(EntityNotFoundException.class, () -> accountService.findByUserId(Long.MIN_VALUE));
     }
 
+    @Test
+    @Transactional
+    public void testFindAllWithTransactionNumber() {
+        User owner = createUser();
+        Account account1 = createAccount();
+        accountService.create(account1, owner.getId());
+        Account account2 = createAccount();
+        accountService.create(account2, owner.getId());
+        createTransaction(account1);
+        createTransaction(account1);
+        createTransaction(account1);
+
+        Collection<AccountShortInfo> accounts =
+                accountService.findAllWithTransactionNumber(account1.getId() - 1, PageRequest.of(0, 10));
+        AccountShortInfo info1 = findInfo(accounts, account1.getId());
+        AccountShortInfo info2 = findInfo(accounts, account2.getId());
+
+        Assertions.assertEquals(2, accounts.size());
+        Assertions.assertEquals(3, info1.getTransactionNumber());
+        Assertions.assertEquals(0, info2.getTransactionNumber());
+        Assertions.assertEquals(account1.getName(), info1.getName());
+        Assertions.assertEquals(owner.getFirstName() + " " + owner.getLastName(), info1.getOwner());
+    }
+
+    @Test
+    @Transactional
+    public void testFindBalanceAt() throws InterruptedException {
+        User owner = createUser();
+        Account sender = createAccount();
+        sender.setBalance(10_000);
+        accountService.create(sender, owner.getId());
+        Account receiver = createAccount();
+        receiver.setBalance(0);
+        accountService.create(receiver, owner.getId());
+
+        Date beforeTransfers = pause();
+        transferService.transfer(transfer(sender, receiver, 500));
+        Date afterFirst = pause();
+        transferService.transfer(transfer(sender, receiver, 300));
+
+        Assertions.assertEquals(10_000, accountService.findBalanceAt(sender.getId(), beforeTransfers));
+        Assertions.assertEquals(9_500, accountService.findBalanceAt(sender.getId(), afterFirst));
+        Assertions.assertEquals(9_200, accountService.findBalanceAt(sender.getId(), new Date()));
+        Assertions.assertEquals(500, accountService.findBalanceAt(receiver.getId(), afterFirst));
+        Assertions.assertEquals(0, accountService.findBalanceAt(receiver.getId(), new Date(0)));
+    }
+
+    @Test
+    @Transactional
+    public void testFindBalanceAtWithoutHistoryReplaysTransactions() throws InterruptedException {
+        User owner = createUser();
+        Account sender = createAccount();
+        sender.setBalance(10_000);
+        accountService.create(sender, owner.getId());
+        Account receiver = createAccount();
+        receiver.setBalance(0);
+        accountService.create(receiver, owner.getId());
+        transferService.transfer(transfer(sender, receiver, 500));
+        Date afterFirst = pause();
+        transferService.transfer(transfer(sender, receiver, 300));
+        balanceHistoryRepository.deleteAllByAccountId(sender.getId());
+
+        Assertions.assertEquals(9_500, accountService.findBalanceAt(sender.getId(), afterFirst));
+    }
+
+    @Test
+    public void testFindAllQueryBudget() {
+        User owner = createUser();
+        for (int i = 0; i < 50; i++) {
+            Account account = createAccount();
+            account.setOwner(owner);
+            accountRepository.save(account);
+            createTransaction(account);
+        }
+
+        assertQueryBudget(1, "/accounts?limit=1");
+        assertQueryBudget(1, "/accounts?limit=50");
+    }
+
+    @Test
+    public void testFindByIdQueryBudget() {
+        Account account = createAccount();
+        account.setOwner(createUser());
+        accountRepository.save(account);
+        for (int i = 0; i < 50; i++) {
+            createTransaction(account);
+        }
+
+        assertQueryBudget(2, "/accounts/" + account.getId() + "?limit=1");
+        assertQueryBudget(2, "/accounts/" + account.getId() + "?limit=50");
+    }
+
+    private void assertQueryBudget(int budget, String url) {
+        entityManagerFactory.getCache().evictAll();
+        queryCounter.assertAtMost(budget, () -> mockMvc.perform(get(url)).andExpect(status().isOk()));
+    }
+
+    private Date pause() throws InterruptedException {
+        Thread.sleep(5);
+        Date now = new Date();
+        Thread.sleep(5);
+        return now;
+    }
+
+    private TransactionCreatedDTO transfer(Account sender, Account receiver, int amount) {
+        TransactionCreatedDTO transaction = new TransactionCreatedDTO();
+        transaction.setSenderAccId(sender.getId());
+        transaction.setReceiverAccId(receiver.getId());
+        transaction.setAmount(amount);
+        transaction.setDescription("Test");
+        return transaction;
+    }
+
+    private AccountShortInfo findInfo(Collection<AccountShortInfo> accounts, long id) {
+        return accounts.stream()
+                .filter(e -> e.getId() == id)
+                .findFirst()
+                .orElseThrow();
+    }
+
+    private void createTransaction(Account account) {
+        Transaction transaction = new Transaction();
+        transaction.setAccount(account);
+        transaction.setAmount(100);
+        transaction.setTransactionType(TransactionType.PROFIT);
+        transaction.setDescription("Test");
+        transactionRepository.save(transaction);
+    }
+
     private Account createAccount() {
         Random random = new Random();
         Account account = new Account();
@@ -0,0 +1,114 @@
+package my.finances.service;
+
+import jakarta.persistence.EntityNotFoundException;
+import my.finances.dto.CacheRegionStats;
+import my.finances.dto.TransactionCreatedDTO;
+import my.finances.persistence.entity.Account;
+import my.finances.persistence.entity.User;
+import my.finances.persistence.repository.AccountRepository;
+import my.finances.persistence.repository.UserRepository;
+import org.junit.jupiter.api.Assertions;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.context.SpringBootTest;
+
+import java.util.List;
+import java.util.UUID;
+
+@SpringBootTest
+public class CacheServiceTest {
+
+    @Autowired
+    private AccountRepository accountRepository;
+
+    @Autowired
+    private UserRepository userRepository;
+
+    @Autowired
+    private AccountService accountService;
+
+    @Autowired
+    private TransactionService transactionService;
+
+    @Autowired
+    private CacheService cacheService;
+
+    @Test
+    public void testRepeatedFindByIdIsServedFromCache() {
+        Account account = createAccount(100);
+        accountService.findById(account.getId());
+        long hits = accountStats().hits();
+
+        accountService.findById(account.getId());
+        accountService.findById(account.getId());
+
+        Assertions.assertTrue(accountStats().hits() >= hits + 2);
+        Assertions.assertTrue(accountStats().hitRatio() > 0);
+    }
+
+    @Test
+    public void testTransfersEvictCachedBalances() {
+        Account sender = createAccount(1_000);
+        Account receiver = createAccount(1_000);
+        accountService.findById(sender.getId());
+        accountService.findById(receiver.getId());
+
+        transactionService.create(transfer(sender, receiver, 100));
+        Assertions.assertEquals(900, accountService.findById(sender.getId()).getBalance());
+        Assertions.assertEquals(1_100, accountService.findById(receiver.getId()).getBalance());
+
+        transactionService.createBatch(List.of(transfer(sender, receiver, 50), transfer(receiver, sender, 10)));
+        Assertions.assertEquals(860, accountService.findById(sender.getId()).getBalance());
+        Assertions.assertEquals(1_140, accountService.findById(receiver.getId()).getBalance());
+    }
+
+    @Test
+    public void testUpdateAndDeleteInvalidateCache() {
+        Account account = createAccount(100);
+        accountService.findById(account.getId());
+
+        Account changed = new Account();
+        changed.setName("renamed");
+        changed.setBalance(250);
+        accountService.update(changed, account.getId());
+        Account cached = accountService.findById(account.getId());
+        Assertions.assertEquals("renamed", cached.getName());
+        Assertions.assertEquals(250, cached.getBalance());
+
+        accountService.delete(account.getId());
+        Assertions.assertThrows(EntityNotFoundException.class, () -> accountService.findById(account.getId()));
+    }
+
+    private CacheRegionStats accountStats() {
+        return cacheService.findStats().stream()
+                .filter(stats -> stats.region().endsWith(Account.class.getName()))
+                .findFirst()
+                .orElseThrow();
+    }
+
+    private TransactionCreatedDTO transfer(Account sender, Account receiver, int amount) {
+        TransactionCreatedDTO transaction = new TransactionCreatedDTO();
+        transaction.setSenderAccId(sender.getId());
+        transaction.setReceiverAccId(receiver.getId());
+        transaction.setAmount(amount);
+        transaction.setDescription("Test");
+        return transaction;
+    }
+
+    private Account createAccount(int balance) {
+        Account account = new Account();
+        account.setName(UUID.randomUUID().toString().substring(0, 8));
+        account.setBalance(balance);
+        account.setOwner(createUser());
+        accountRepository.save(account);
+        return account;
+    }
+
+    private User createUser() {
+        User user = new User();
+        user.setFirstName(UUID.randomUUID().toString().substring(0, 8));
+        user.setLastName(UUID.randomUUID().toString().substring(0, 8));
+        userRepository.save(user);
+        return user;
+    }
+}
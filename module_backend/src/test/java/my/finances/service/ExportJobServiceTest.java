@@ -0,0 +1,119 @@
+package my.finances.service;
+
+import jakarta.persistence.EntityNotFoundException;
+import my.finances.dto.TransactionCreatedDTO;
+import my.finances.exception.InvalidDataException;
+import my.finances.persistence.entity.Account;
+import my.finances.persistence.entity.User;
+import my.finances.persistence.repository.AccountRepository;
+import my.finances.persistence.repository.UserRepository;
+import my.finances.service.export.ExportJob;
+import my.finances.service.export.ExportJobState;
+import org.junit.jupiter.api.Assertions;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.context.SpringBootTest;
+
+import java.nio.file.Files;
+import java.util.List;
+import java.util.UUID;
+
+@SpringBootTest
+public class ExportJobServiceTest {
+
+    @Autowired
+    private AccountRepository accountRepository;
+
+    @Autowired
+    private UserRepository userRepository;
+
+    @Autowired
+    private TransactionService transactionService;
+
+    @Autowired
+    private ExportJobService exportJobService;
+
+    @Test
+    public void testSubmitExportsAccountToFile() throws Exception {
+        Account receiver = createAccount();
+        for (int i = 0; i < 3; i++) {
+            TransactionCreatedDTO transaction = new TransactionCreatedDTO();
+            transaction.setReceiverAccId(receiver.getId());
+            transaction.setSenderAccId(createAccount().getId());
+            transaction.setAmount(100);
+            transaction.setDescription("Test " + i);
+            transactionService.create(transaction);
+        }
+
+        ExportJob job = exportJobService.submit(receiver.getId(), 1);
+        for (int i = 0; i < 100 && !job.getState().isFinished(); i++) {
+            Thread.sleep(50);
+        }
+
+        Assertions.assertEquals(ExportJobState.DONE, job.getState());
+        Assertions.assertEquals(3, job.getRowsWritten().get());
+        Assertions.assertEquals(3, job.getTotalRows());
+        List<String> lines = Files.readAllLines(exportJobService.findFile(job.getId()));
+        Assertions.assertEquals(4, lines.size());
+        Assertions.assertEquals(Files.size(job.getFile()), job.getBytesWritten().get());
+    }
+
+    @Test
+    public void testCancelFinishedJobKeepsFile() throws Exception {
+        ExportJob job = exportJobService.submit(createAccount().getId(), 1);
+        for (int i = 0; i < 100 && !job.getState().isFinished(); i++) {
+            Thread.sleep(50);
+        }
+
+        exportJobService.cancel(job.getId());
+
+        Assertions.assertEquals(ExportJobState.DONE, job.getState());
+        Assertions.assertTrue(Files.exists(exportJobService.findFile(job.getId())));
+    }
+
+    @Test
+    public void testCancelledJobServesNoFile() throws Exception {
+        ExportJob job = exportJobService.submit(createAccount().getId(), 1);
+        exportJobService.cancel(job.getId());
+        for (int i = 0; i < 100 && job.getFuture() != null && !job.getFuture().isDone(); i++) {
+            Thread.sleep(50);
+        }
+        Thread.sleep(100);
+
+        if (job.getState() == ExportJobState.CANCELLED) {
+            Assertions.assertThrows(InvalidDataException.class, () -> exportJobService.findFile(job.getId()));
+            Assertions.assertFalse(Files.exists(job.getFile()));
+        } else {
+            Assertions.assertEquals(ExportJobState.DONE, job.getState());
+            Assertions.assertTrue(Files.exists(exportJobService.findFile(job.getId())));
+        }
+    }
+
+    @Test
+    public void testSubmitInvalidAccount() {
+        Assertions.assertThrows(InvalidDataException.class, () -> exportJobService.submit(Long.MAX_VALUE, 1));
+    }
+
+    @Test
+    public void testFindByIdInvalid() {
+        Assertions.assertThrows(EntityNotFoundException.class, () -> exportJobService.findById("unknown"));
+        Assertions.assertThrows(EntityNotFoundException.class, () -> exportJobService.cancel("unknown"));
+    }
+
+    private Account createAccount() {
+        Account account = new Account();
+        account.setName(UUID.randomUUID().toString().substring(0, 8));
+        account.setBalance(10_000);
+        account.setOwner(createUser());
+        accountRepository.save(account);
+        return account;
+    }
+
+    private User createUser() {
+        User user = new User();
+        user.setFirstName(UUID.randomUUID().toString().substring(0, 8));
+        user.setLastName(UUID.randomUUID().toString().substring(0, 8));
+        userRepository.save(user);
+        return user;
+    }
+}
@@ -0,0 +1,166 @@
+package my.finances.service;
+
+import my.finances.dto.ImportResult;
+import my.finances.dto.TransactionCreatedDTO;
+import my.finances.exception.ImportInProgressException;
+import my.finances.exception.InvalidDataException;
+import my.finances.persistence.entity.Account;
+import my.finances.persistence.entity.ImportCheckpoint;
+import my.finances.persistence.entity.User;
+import my.finances.persistence.repository.AccountRepository;
+import my.finances.persistence.repository.ImportCheckpointRepository;
+import my.finances.persistence.repository.TransactionRepository;
+import my.finances.persistence.repository.UserRepository;
+import org.junit.jupiter.api.Assertions;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.context.SpringBootTest;
+
+import java.io.StringReader;
+import java.io.StringWriter;
+import java.util.Date;
+import java.util.UUID;
+import java.util.concurrent.TimeUnit;
+
+@SpringBootTest(properties = "finance.import.chunk-size=3")
+public class ImportServiceTest {
+
+    @Autowired
+    private AccountRepository accountRepository;
+
+    @Autowired
+    private TransactionRepository transactionRepository;
+
+    @Autowired
+    private UserRepository userRepository;
+
+    @Autowired
+    private ImportCheckpointRepository importCheckpointRepository;
+
+    @Autowired
+    private TransactionService transactionService;
+
+    @Autowired
+    private ImportService importService;
+
+    @Test
+    public void testImportReadsExportedCsv() {
+        Account receiver = createAccountWithTransactions(7);
+        String csv = export(receiver);
+
+        ImportResult result = importService.importTransactions(null, new StringReader(csv));
+
+        Assertions.assertNull(result.getError());
+        Assertions.assertTrue(result.isCompleted());
+        Assertions.assertEquals(7, result.getRowsImported());
+        Assertions.assertEquals(0, result.getRowsRejected());
+        Assertions.assertEquals(14, transactionRepository.countByAccountId(receiver.getId()));
+    }
+
+    @Test
+    public void testImportRejectsUnknownAccounts() {
+        Account receiver = createAccountWithTransactions(2);
+        String csv = export(receiver) + "\"1\",\"PROFIT\",\"10\",\"" + Long.MAX_VALUE + "\",\"Test\",\"2023-01-01 10:00:00.0\"\n";
+
+        ImportResult result = importService.importTransactions(null, new StringReader(csv));
+
+        Assertions.assertEquals(2, result.getRowsImported());
+        Assertions.assertEquals(1, result.getRowsRejected());
+        Assertions.assertEquals(1, result.getRejections().size());
+    }
+
+    @Test
+    public void testImportResumesAfterLastCommittedRow() {
+        Account receiver = createAccountWithTransactions(5);
+        String csv = export(receiver);
+        String key = UUID.randomUUID().toString();
+        ImportCheckpoint checkpoint = new ImportCheckpoint();
+        checkpoint.setImportKey(key);
+        checkpoint.setLastRow(3);
+        checkpoint.setRowsImported(3);
+        importCheckpointRepository.save(checkpoint);
+
+        ImportResult result = importService.importTransactions(key, new StringReader(csv));
+        ImportResult replay = importService.importTransactions(key, new StringReader(csv));
+
+        Assertions.assertEquals(3, result.getResumedFrom());
+        Assertions.assertEquals(5, result.getRowsImported());
+        Assertions.assertEquals(7, transactionRepository.countByAccountId(receiver.getId()));
+        Assertions.assertTrue(replay.isCompleted());
+        Assertions.assertEquals(7, transactionRepository.countByAccountId(receiver.getId()));
+        Assertions.assertFalse(importCheckpointRepository.findByImportKey(key).get().isRunning());
+    }
+
+    @Test
+    public void testImportRejectsKeyThatIsAlreadyRunning() {
+        Account receiver = createAccountWithTransactions(2);
+        String key = UUID.randomUUID().toString();
+        ImportCheckpoint checkpoint = new ImportCheckpoint();
+        checkpoint.setImportKey(key);
+        checkpoint.setRunning(true);
+        checkpoint.setUpdated(new Date());
+        importCheckpointRepository.save(checkpoint);
+
+        Assertions.assertThrows(ImportInProgressException.class,
+                () -> importService.importTransactions(key, new StringReader(export(receiver))));
+        Assertions.assertEquals(2, transactionRepository.countByAccountId(receiver.getId()));
+    }
+
+    @Test
+    public void testImportTakesOverStaleClaim() {
+        Account receiver = createAccountWithTransactions(2);
+        String key = UUID.randomUUID().toString();
+        ImportCheckpoint checkpoint = new ImportCheckpoint();
+        checkpoint.setImportKey(key);
+        checkpoint.setRunning(true);
+        checkpoint.setUpdated(new Date(System.currentTimeMillis() - TimeUnit.HOURS.toMillis(1)));
+        importCheckpointRepository.save(checkpoint);
+
+        ImportResult result = importService.importTransactions(key, new StringReader(export(receiver)));
+
+        Assertions.assertTrue(result.isCompleted());
+        Assertions.assertEquals(4, transactionRepository.countByAccountId(receiver.getId()));
+    }
+
+    @Test
+    public void testImportRejectsUnknownHeader() {
+        Assertions.assertThrows(InvalidDataException.class,
+                () -> importService.importTransactions(null, new StringReader("id,amount\n1,2\n")));
+    }
+
+    private String export(Account account) {
+        StringWriter out = new StringWriter();
+        transactionService.exportByAccId(account.getId(), 1, out);
+        return out.toString();
+    }
+
+    private Account createAccountWithTransactions(int count) {
+        Account receiver = createAccount();
+        for (int i = 0; i < count; i++) {
+            TransactionCreatedDTO transaction = new TransactionCreatedDTO();
+            transaction.setReceiverAccId(receiver.getId());
+            transaction.setSenderAccId(createAccount().getId());
+            transaction.setAmount(100 + i);
+            transaction.setDescription("Test, \"quoted\" " + i);
+            transactionService.create(transaction);
+        }
+        return receiver;
+    }
+
+    private Account createAccount() {
+        Account account = new Account();
+        account.setName(UUID.randomUUID().toString().substring(0, 8));
+        account.setBalance(10_000);
+        account.setOwner(createUser());
+        accountRepository.save(account);
+        return account;
+    }
+
+    private User createUser() {
+        User user = new User();
+        user.setFirstName(UUID.randomUUID().toString().substring(0, 8));
+        user.setLastName(UUID.randomUUID().toString().substring(0, 8));
+        userRepository.save(user);
+        return user;
+    }
+}
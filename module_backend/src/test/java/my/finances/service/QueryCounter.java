@@ -0,0 +1,72 @@
+package my.finances.service;
+
+import net.ttddyy.dsproxy.QueryInfo;
+import net.ttddyy.dsproxy.support.ProxyDataSource;
+import net.ttddyy.dsproxy.support.ProxyDataSourceBuilder;
+import org.junit.jupiter.api.Assertions;
+import org.junit.jupiter.api.function.Executable;
+import org.junit.jupiter.api.function.ThrowingSupplier;
+import org.springframework.beans.factory.config.BeanPostProcessor;
+import org.springframework.stereotype.Component;
+
+import javax.sql.DataSource;
+import java.util.List;
+import java.util.concurrent.CopyOnWriteArrayList;
+
+/**
+ * Records the SQL statements sent through the data source so tests can hold a service call or a request to a query
+ * budget. Component scanning picks it up, so every test context routes its data source through it. Statements are
+ * recorded from every thread while a budget is being checked, which also covers export and import workers.
+ */
+@Component
+public class QueryCounter implements BeanPostProcessor {
+
+    private final List<String> statements = new CopyOnWriteArrayList<>();
+    private volatile boolean recording;
+
+    @Override
+    public Object postProcessAfterInitialization(Object bean, String beanName) {
+        if (bean instanceof DataSource dataSource && !(bean instanceof ProxyDataSource)) {
+            return ProxyDataSourceBuilder.create(dataSource)
+                    .name(beanName)
+                    .afterQuery((execution, queries) -> record(queries))
+                    .build();
+        }
+        return bean;
+    }
+
+    public void assertAtMost(int budget, Executable call) {
+        assertAtMost(budget, () -> {
+            call.execute();
+            return null;
+        });
+    }
+
+    public <T> T assertAtMost(int budget, ThrowingSupplier<T> call) {
+        statements.clear();
+        recording = true;
+        T result;
+        try {
+            result = Assertions.assertDoesNotThrow(call);
+        } finally {
+            recording = false;
+        }
+        List<String> issued = List.copyOf(statements);
+        if (issued.size() > budget) {
+            StringBuilder message = new StringBuilder()
+                    .append("Expected at most ").append(budget).append(" statements but ")
+                    .append(issued.size()).append(" were issued:");
+            for (int i = 0; i < issued.size(); i++) {
+                message.append(System.lineSeparator()).append(i + 1).append(". ").append(issued.get(i));
+            }
+            Assertions.fail(message.toString());
+        }
+        return result;
+    }
+
+    private void record(List<QueryInfo> queries) {
+        if (recording) {
+            queries.forEach(query -> statements.add(query.getQuery()));
+        }
+    }
+}
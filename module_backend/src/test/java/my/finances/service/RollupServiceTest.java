@@ -0,0 +1,130 @@
+package my.finances.service;
+
+import my.finances.dto.RollupTotal;
+import my.finances.dto.TransactionCreatedDTO;
+import my.finances.persistence.entity.Account;
+import my.finances.persistence.entity.User;
+import my.finances.persistence.repository.AccountRepository;
+import my.finances.persistence.repository.TransactionRollupRepository;
+import my.finances.persistence.repository.UserRepository;
+import my.finances.persistence.types.RollupPeriod;
+import org.junit.jupiter.api.Assertions;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.context.SpringBootTest;
+
+import java.time.LocalDate;
+import java.time.ZoneOffset;
+import java.util.List;
+import java.util.UUID;
+
+@SpringBootTest
+public class RollupServiceTest {
+
+    @Autowired
+    private AccountRepository accountRepository;
+
+    @Autowired
+    private UserRepository userRepository;
+
+    @Autowired
+    private TransactionRollupRepository transactionRollupRepository;
+
+    @Autowired
+    private TransactionService transactionService;
+
+    @Autowired
+    private RollupService rollupService;
+
+    @Test
+    public void testTransfersUpdateDailyAndMonthlyRollups() {
+        User owner = createUser();
+        Account sender = createAccount(owner, 1_000);
+        Account receiver = createAccount(createUser(), 1_000);
+
+        transactionService.create(transfer(sender, receiver, 100));
+        transactionService.create(transfer(sender, receiver, 50));
+        transactionService.create(transfer(receiver, sender, 30));
+
+        LocalDate today = LocalDate.now(ZoneOffset.UTC);
+        List<RollupTotal> days = rollupService.findByAccountId(sender.getId(), RollupPeriod.DAY, null, null);
+        Assertions.assertEquals(List.of(new RollupTotal(today, 150L, 30L)), days);
+        List<RollupTotal> months = rollupService.findByAccountId(receiver.getId(), RollupPeriod.MONTH, null, null);
+        Assertions.assertEquals(List.of(new RollupTotal(today.withDayOfMonth(1), 30L, 150L)), months);
+    }
+
+    @Test
+    public void testBatchTransfersUpdateRollups() {
+        Account sender = createAccount(createUser(), 1_000);
+        Account receiver = createAccount(createUser(), 1_000);
+
+        transactionService.createBatch(List.of(
+                transfer(sender, receiver, 10),
+                transfer(sender, receiver, 20),
+                transfer(sender, receiver, 5_000)));
+
+        Assertions.assertEquals(List.of(new RollupTotal(LocalDate.now(ZoneOffset.UTC), 30L, 0L)),
+                rollupService.findByAccountId(sender.getId(), RollupPeriod.DAY, null, null));
+    }
+
+    @Test
+    public void testUserRollupsSumAllAccounts() {
+        User owner = createUser();
+        Account first = createAccount(owner, 1_000);
+        Account second = createAccount(owner, 1_000);
+        Account other = createAccount(createUser(), 1_000);
+
+        transactionService.create(transfer(first, other, 100));
+        transactionService.create(transfer(second, other, 200));
+        transactionService.create(transfer(other, second, 40));
+
+        Assertions.assertEquals(List.of(new RollupTotal(LocalDate.now(ZoneOffset.UTC), 300L, 40L)),
+                rollupService.findByUserId(owner.getId(), RollupPeriod.DAY, null, null));
+    }
+
+    @Test
+    public void testRebuildRecomputesFromTransactions() {
+        Account sender = createAccount(createUser(), 1_000);
+        Account receiver = createAccount(createUser(), 1_000);
+        transactionService.create(transfer(sender, receiver, 70));
+        transactionService.create(transfer(receiver, sender, 20));
+        List<RollupTotal> expected = rollupService.findByAccountId(sender.getId(), RollupPeriod.MONTH, null, null);
+
+        transactionRollupRepository.deleteAll(transactionRollupRepository.findAll().stream()
+                .filter(rollup -> rollup.getAccountId() == sender.getId())
+                .toList());
+        Assertions.assertTrue(rollupService.findByAccountId(sender.getId(), RollupPeriod.MONTH, null, null).isEmpty());
+
+        Assertions.assertTrue(rollupService.rebuild(sender.getId()));
+        Assertions.assertEquals(expected, rollupService.findByAccountId(sender.getId(), RollupPeriod.MONTH, null, null));
+        Assertions.assertEquals(List.of(new RollupTotal(LocalDate.now(ZoneOffset.UTC), 70L, 20L)),
+                rollupService.findByAccountId(sender.getId(), RollupPeriod.DAY, null, null));
+        Assertions.assertFalse(rollupService.rebuild(Long.MAX_VALUE));
+    }
+
+    private TransactionCreatedDTO transfer(Account sender, Account receiver, int amount) {
+        TransactionCreatedDTO transactionDTO = new TransactionCreatedDTO();
+        transactionDTO.setSenderAccId(sender.getId());
+        transactionDTO.setReceiverAccId(receiver.getId());
+        transactionDTO.setAmount(amount);
+        transactionDTO.setDescription("rollup");
+        return transactionDTO;
+    }
+
+    private Account createAccount(User owner, int balance) {
+        Account account = new Account();
+        account.setName(UUID.randomUUID().toString().substring(0, 8));
+        account.setBalance(balance);
+        account.setOwner(owner);
+        accountRepository.save(account);
+        return account;
+    }
+
+    private User createUser() {
+        User user = new User();
+        user.setFirstName(UUID.randomUUID().toString().substring(0, 8));
+        user.setLastName(UUID.randomUUID().toString().substring(0, 8));
+        userRepository.save(user);
+        return user;
+    }
+}
@@ -0,0 +1,197 @@
+package my.finances.service;
+
+import my.finances.dto.BatchItemResult;
+import my.finances.dto.TransactionCreatedDTO;
+import my.finances.exception.InvalidDataException;
+import my.finances.exception.TransferRejectedException;
+import my.finances.persistence.entity.Account;
+import my.finances.persistence.entity.User;
+import my.finances.persistence.repository.AccountRepository;
+import my.finances.persistence.repository.LedgerJdbcRepository;
+import my.finances.persistence.repository.TransactionRepository;
+import my.finances.persistence.repository.UserRepository;
+import my.finances.service.impl.SequencerTransferServiceImpl;
+import org.junit.jupiter.api.Assertions;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.transaction.PlatformTransactionManager;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.UUID;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+import java.util.concurrent.ThreadLocalRandom;
+
+@SpringBootTest(properties = {"finance.transfer.mode=sequencer", "finance.transfer.sequencer.batch-size=16"})
+public class SequencerTransferServiceTest {
+
+    @Autowired
+    private AccountRepository accountRepository;
+
+    @Autowired
+    private TransactionRepository transactionRepository;
+
+    @Autowired
+    private UserRepository userRepository;
+
+    @Autowired
+    private AccountService accountService;
+
+    @Autowired
+    private TransferService transferService;
+
+    @Autowired
+    private LedgerJdbcRepository ledgerJdbcRepository;
+
+    @Autowired
+    private PlatformTransactionManager transactionManager;
+
+    @Test
+    public void testSequencerModeIsSelected() {
+        Assertions.assertInstanceOf(SequencerTransferServiceImpl.class, transferService);
+    }
+
+    @Test
+    public void testConcurrentTransfersConserveBalances() throws Exception {
+        List<Account> accounts = new ArrayList<>();
+        for (int i = 0; i < 8; i++) {
+            accounts.add(createAccount(1_000));
+        }
+
+        ExecutorService executor = Executors.newFixedThreadPool(8);
+        List<Future<Boolean>> futures = new ArrayList<>();
+        for (int i = 0; i < 400; i++) {
+            futures.add(executor.submit(() -> {
+                ThreadLocalRandom random = ThreadLocalRandom.current();
+                Account sender = accounts.get(random.nextInt(accounts.size()));
+                Account receiver = accounts.get(random.nextInt(accounts.size()));
+                if (sender == receiver) {
+                    return false;
+                }
+                try {
+                    transferService.transfer(transfer(sender, receiver, 1 + random.nextInt(300)));
+                    return true;
+                } catch (InvalidDataException e) {
+                    return false;
+                }
+            }));
+        }
+        int accepted = 0;
+        for (Future<Boolean> future : futures) {
+            accepted += future.get() ? 1 : 0;
+        }
+        executor.shutdown();
+
+        long total = 0;
+        long legs = 0;
+        for (Account account : accounts) {
+            int balance = accountRepository.findById(account.getId()).get().getBalance();
+            Assertions.assertTrue(balance >= 0);
+            total += balance;
+            legs += transactionRepository.countByAccountId(account.getId());
+        }
+        Assertions.assertEquals(8 * 1_000, total);
+        Assertions.assertEquals(accepted * 2L, legs);
+    }
+
+    @Test
+    public void testInsufficientFundsIsRejected() {
+        Account sender = createAccount(100);
+        Account receiver = createAccount(100);
+
+        Assertions.assertThrows(InvalidDataException.class,
+                () -> transferService.transfer(transfer(sender, receiver, 500)));
+        Assertions.assertEquals(100, accountRepository.findById(sender.getId()).get().getBalance());
+    }
+
+    @Test
+    public void testTransferAllReportsEachItem() {
+        Account sender = createAccount(250);
+        Account receiver = createAccount(0);
+        List<TransactionCreatedDTO> transfers = new ArrayList<>();
+        for (int i = 0; i < 3; i++) {
+            transfers.add(transfer(sender, receiver, 100));
+        }
+        transfers.add(transfer(sender, sender, 1));
+
+        List<BatchItemResult> results = transferService.transferAll(transfers);
+
+        Assertions.assertTrue(results.get(0).success());
+        Assertions.assertTrue(results.get(1).success());
+        Assertions.assertEquals("Insufficient funds", results.get(2).error());
+        Assertions.assertEquals("Invalid data", results.get(3).error());
+        Assertions.assertEquals(200, accountRepository.findById(receiver.getId()).get().getBalance());
+    }
+
+    @Test
+    public void testAccountUpdateInvalidatesCachedBalance() {
+        Account sender = createAccount(100);
+        Account receiver = createAccount(100);
+        transferService.transfer(transfer(sender, receiver, 50));
+
+        Account update = new Account();
+        update.setName(sender.getName());
+        update.setBalance(1_000);
+        accountService.update(update, sender.getId());
+        transferService.transfer(transfer(sender, receiver, 500));
+
+        Assertions.assertEquals(500, accountRepository.findById(sender.getId()).get().getBalance());
+        Assertions.assertEquals(650, accountRepository.findById(receiver.getId()).get().getBalance());
+    }
+
+    @Test
+    public void testTransferChecksBalanceChangedOutsideSequencer() {
+        Account sender = createAccount(100);
+        Account receiver = createAccount(0);
+        transferService.transfer(transfer(sender, receiver, 10));
+        ledgerJdbcRepository.debit(sender.getId(), 80);
+
+        Assertions.assertThrows(InvalidDataException.class,
+                () -> transferService.transfer(transfer(sender, receiver, 50)));
+        Assertions.assertEquals(10, accountRepository.findById(sender.getId()).get().getBalance());
+        Assertions.assertEquals(10, accountRepository.findById(receiver.getId()).get().getBalance());
+    }
+
+    @Test
+    public void testTransferAfterShutdownIsRejected() throws Exception {
+        SequencerTransferServiceImpl sequencer = new SequencerTransferServiceImpl(accountRepository,
+                ledgerJdbcRepository, transactionManager, 16, 16, 2, 1_000);
+        Account sender = createAccount(100);
+        Account receiver = createAccount(100);
+        sequencer.transfer(transfer(sender, receiver, 10));
+        sequencer.shutdown();
+
+        Assertions.assertThrows(TransferRejectedException.class,
+                () -> sequencer.transfer(transfer(sender, receiver, 10)));
+        Assertions.assertEquals(90, accountRepository.findById(sender.getId()).get().getBalance());
+    }
+
+    private TransactionCreatedDTO transfer(Account sender, Account receiver, int amount) {
+        TransactionCreatedDTO transaction = new TransactionCreatedDTO();
+        transaction.setSenderAccId(sender.getId());
+        transaction.setReceiverAccId(receiver.getId());
+        transaction.setAmount(amount);
+        transaction.setDescription("Test");
+        return transaction;
+    }
+
+    private Account createAccount(int balance) {
+        Account account = new Account();
+        account.setName(UUID.randomUUID().toString().substring(0, 8));
+        account.setBalance(balance);
+        account.setOwner(createUser());
+        accountRepository.save(account);
+        return account;
+    }
+
+    private User createUser() {
+        User user = new User();
+        user.setFirstName(UUID.randomUUID().toString().substring(0, 8));
+        user.setLastName(UUID.randomUUID().toString().substring(0, 8));
+        userRepository.save(user);
+        return user;
+    }
+}
@@ -0,0 +1,190 @@
+package my.finances.service;
+
+import my.finances.dto.TransactionCreatedDTO;
+import my.finances.exception.InvalidDataException;
+import my.finances.persistence.entity.Account;
+import my.finances.persistence.entity.Transaction;
+import my.finances.persistence.entity.User;
+import my.finances.persistence.repository.AccountRepository;
+import my.finances.persistence.repository.TransactionRepository;
+import my.finances.persistence.repository.UserRepository;
+import my.finances.service.export.TransactionBinaryReader;
+import my.finances.service.export.TransactionRow;
+import org.junit.jupiter.api.Assertions;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.context.SpringBootTest;
+
+import java.io.ByteArrayInputStream;
+import java.io.ByteArrayOutputStream;
+import java.io.IOException;
+import java.io.StringWriter;
+import java.nio.charset.StandardCharsets;
+import java.util.ArrayList;
+import java.util.Comparator;
+import java.util.List;
+import java.util.UUID;
+
+@SpringBootTest(properties = {"finance.export.chunk-size=3", "finance.export.max-parallelism=4",
+        "finance.export.binary.row-group-size=4"})
+public class TransactionExportTest {
+
+    @Autowired
+    private AccountRepository accountRepository;
+
+    @Autowired
+    private TransactionRepository transactionRepository;
+
+    @Autowired
+    private UserRepository userRepository;
+
+    @Autowired
+    private TransactionService transactionService;
+
+    @Autowired
+    private QueryCounter queryCounter;
+
+    @Test
+    public void testPartitionedExportMatchesSequentialExport() {
+        Account receiver = createAccount();
+        for (int i = 0; i < 10; i++) {
+            TransactionCreatedDTO transaction = new TransactionCreatedDTO();
+            transaction.setReceiverAccId(receiver.getId());
+            transaction.setSenderAccId(createAccount().getId());
+            transaction.setAmount(100 + i);
+            transaction.setDescription("Test, \"quoted\" " + i);
+            transactionService.create(transaction);
+        }
+
+        StringWriter sequential = new StringWriter();
+        transactionService.exportByAccId(receiver.getId(), 1, sequential);
+        StringWriter partitioned = new StringWriter();
+        transactionService.exportByAccId(receiver.getId(), 4, partitioned);
+
+        Assertions.assertEquals(11, sequential.toString().split("\n").length);
+        Assertions.assertEquals(sequential.toString(), partitioned.toString());
+    }
+
+    @Test
+    public void testPartitionedExportQueriesFollowAccountRows() {
+        Account receiver = createAccount();
+        Account sender = createAccount();
+        Account other = createAccount();
+        for (int i = 0; i < 10; i++) {
+            transactionService.create(transfer(sender, receiver, 100 + i));
+            for (int j = 0; j < 5; j++) {
+                transactionService.create(transfer(sender, other, 1));
+            }
+        }
+
+        // The account and its id range, then one chunk end and one chunk read per three rows, however far apart
+        // their ids are.
+        StringWriter partitioned = queryCounter.assertAtMost(2 + 2 * 4, () -> {
+            StringWriter out = new StringWriter();
+            transactionService.exportByAccId(receiver.getId(), 4, out);
+            return out;
+        });
+
+        Assertions.assertEquals(11, partitioned.toString().split("\n").length);
+    }
+
+    @Test
+    public void testExportInvalidParallelism() {
+        Account account = createAccount();
+
+        Assertions.assertThrows(InvalidDataException.class,
+                () -> transactionService.exportByAccId(account.getId(), 5, new StringWriter()));
+        Assertions.assertThrows(InvalidDataException.class,
+                () -> transactionService.exportByAccId(account.getId(), 0, new StringWriter()));
+    }
+
+    @Test
+    public void testBinaryExportRoundTrip() throws IOException {
+        Account receiver = createAccount();
+        for (int i = 0; i < 10; i++) {
+            TransactionCreatedDTO transaction = new TransactionCreatedDTO();
+            transaction.setReceiverAccId(receiver.getId());
+            transaction.setSenderAccId(createAccount().getId());
+            transaction.setAmount(100 + i * 1000);
+            transaction.setDescription(i % 3 == 0 ? null : "Test " + i % 2);
+            transactionService.create(transaction);
+        }
+
+        ByteArrayOutputStream binary = new ByteArrayOutputStream();
+        transactionService.exportBinaryByAccId(receiver.getId(), binary);
+
+        List<Transaction> expected = new ArrayList<>(transactionRepository.findAllByAccountId(receiver.getId()));
+        expected.sort(Comparator.comparingLong(Transaction::getId));
+        List<TransactionRow> actual = new ArrayList<>();
+        try (TransactionBinaryReader reader = new TransactionBinaryReader(new ByteArrayInputStream(binary.toByteArray()))) {
+            reader.forEachRemaining(actual::add);
+        }
+
+        Assertions.assertEquals(10, actual.size());
+        for (int i = 0; i < expected.size(); i++) {
+            Transaction transaction = expected.get(i);
+            TransactionRow row = actual.get(i);
+            Assertions.assertEquals(transaction.getId(), row.id());
+            Assertions.assertEquals(transaction.getTransactionType(), row.transactionType());
+            Assertions.assertEquals(transaction.getAmount(), row.amount());
+            Assertions.assertEquals(receiver.getId(), row.accountId());
+            Assertions.assertEquals(receiver.getName(), row.accountName());
+            Assertions.assertEquals(transaction.getDescription(), row.description());
+            Assertions.assertEquals(transaction.getCreated().getTime(), row.created().getTime());
+        }
+    }
+
+    @Test
+    public void testBinaryExportIsSmallerThanCsv() {
+        Account receiver = createAccount();
+        Account sender = createAccount();
+        for (int i = 0; i < 40; i++) {
+            TransactionCreatedDTO transaction = new TransactionCreatedDTO();
+            transaction.setReceiverAccId(receiver.getId());
+            transaction.setSenderAccId(sender.getId());
+            transaction.setAmount(10 + i);
+            transaction.setDescription("Monthly payment");
+            transactionService.create(transaction);
+        }
+
+        StringWriter csv = new StringWriter();
+        transactionService.exportByAccId(receiver.getId(), 1, csv);
+        ByteArrayOutputStream binary = new ByteArrayOutputStream();
+        transactionService.exportBinaryByAccId(receiver.getId(), binary);
+
+        Assertions.assertTrue(binary.size() * 3 < csv.toString().getBytes(StandardCharsets.UTF_8).length);
+    }
+
+    @Test
+    public void testBinaryReaderRejectsOtherFormats() {
+        byte[] csv = "Transaction ID,Type\n".getBytes(StandardCharsets.UTF_8);
+
+        Assertions.assertThrows(IOException.class, () -> new TransactionBinaryReader(new ByteArrayInputStream(csv)));
+    }
+
+    private TransactionCreatedDTO transfer(Account sender, Account receiver, int amount) {
+        TransactionCreatedDTO transaction = new TransactionCreatedDTO();
+        transaction.setReceiverAccId(receiver.getId());
+        transaction.setSenderAccId(sender.getId());
+        transaction.setAmount(amount);
+        transaction.setDescription("Test");
+        return transaction;
+    }
+
+    private Account createAccount() {
+        Account account = new Account();
+        account.setName(UUID.randomUUID().toString().substring(0, 8));
+        account.setBalance(10_000);
+        account.setOwner(createUser());
+        accountRepository.save(account);
+        return account;
+    }
+
+    private User createUser() {
+        User user = new User();
+        user.setFirstName(UUID.randomUUID().toString().substring(0, 8));
+        user.setLastName(UUID.randomUUID().toString().substring(0, 8));
+        userRepository.save(user);
+        return user;
+    }
+}
@@ -1,9 +1,16 @@
 package my.finances.service;
 
+import io.micrometer.core.instrument.MeterRegistry;
+import jakarta.persistence.EntityManagerFactory;
 import jakarta.persistence.EntityNotFoundException;
+import my.finances.dto.CursorPage;
 import my.finances.dto.TransactionCreatedDTO;
+import my.finances.dto.TransactionDetails;
+import my.finances.dto.TransactionShortInfo;
+import my.finances.exception.InsufficientFundsException;
 import my.finances.exception.InvalidDataException;
 import my.finances.persistence.entity.Account;
+import my.finances.persistence.entity.Transaction;
 import my.finances.persistence.entity.User;
 import my.finances.persistence.repository.AccountRepository;
 import my.finances.persistence.repository.TransactionRepository;
@@ -11,13 +18,22 @@ import my.finances.persistence.repository.UserRepository;
 import org.junit.jupiter.api.Assertions;
 import org.junit.jupiter.api.Test;
 import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.autoconfigure.web.servlet.AutoConfigureMockMvc;
 import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.data.domain.PageRequest;
+import org.springframework.test.web.servlet.MockMvc;
 import org.springframework.transaction.annotation.Transactional;
 
+import java.io.StringWriter;
+import java.util.List;
 import java.util.Random;
 import java.util.UUID;
 
+import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.get;
+import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.status;
+
 @SpringBootTest
+@AutoConfigureMockMvc
 public class TransactionServiceTest {
 
     @Autowired
@@ -32,6 +48,18 @@ public class TransactionServiceTest {
     @Autowired
     private TransactionService transactionService;
 
+    @Autowired
+    private MeterRegistry meterRegistry;
+
+    @Autowired
+    private MockMvc mockMvc;
+
+    @Autowired
+    private QueryCounter queryCounter;
+
+    @Autowired
+    private EntityManagerFactory entityManagerFactory;
+
     @Test
     @Transactional
     public void testCreateValidData() {
@@ -158,6 +186,218 @@ public class TransactionServiceTest {
         Assertions.assertEquals(before + 4, after);
     }
 
+    @Test
+    @Transactional
+    public void testFindAllByAccountIdAfterPages() {
+        Account receiver = createAccount();
+        for (int i = 0; i < 5; i++) {
+            TransactionCreatedDTO transaction = new TransactionCreatedDTO();
+            transaction.setReceiverAccId(receiver.getId());
+            transaction.setSenderAccId(createAccount().getId());
+            transaction.setAmount(100);
+            transaction.setDescription("Test " + i);
+            transactionService.create(transaction);
+        }
+
+        List<Transaction> first = transactionService.findAllByAccountIdAfter(receiver.getId(), 0, PageRequest.of(0, 3));
+        List<Transaction> second = transactionService.findAllByAccountIdAfter(
+                receiver.getId(), first.get(first.size() - 1).getId(), PageRequest.of(0, 3));
+
+        Assertions.assertEquals(3, first.size());
+        Assertions.assertEquals(2, second.size());
+        Assertions.assertTrue(first.get(2).getId() < second.get(0).getId());
+    }
+
+    @Test
+    @Transactional
+    public void testFindAllBeforePagesBackwards() {
+        Account receiver = createAccount();
+        for (int i = 0; i < 5; i++) {
+            TransactionCreatedDTO transaction = new TransactionCreatedDTO();
+            transaction.setReceiverAccId(receiver.getId());
+            transaction.setSenderAccId(createAccount().getId());
+            transaction.setAmount(100);
+            transaction.setDescription("Test " + i);
+            transactionService.create(transaction);
+        }
+        List<Transaction> all = transactionService.findAllByAccountIdAfter(receiver.getId(), 0, PageRequest.of(0, 10));
+        long last = all.get(all.size() - 1).getId();
+
+        CursorPage<Transaction> page = CursorPage.before(
+                transactionService.findAllBefore(last, CursorPage.request(2)), 2, Transaction::getId);
+
+        List<Transaction> items = List.copyOf(page.items());
+        Assertions.assertEquals(2, items.size());
+        Assertions.assertTrue(items.get(0).getId() < items.get(1).getId());
+        Assertions.assertTrue(items.get(1).getId() < last);
+        Assertions.assertNotNull(page.prev());
+        Assertions.assertEquals(CursorPage.encode(items.get(1).getId()), page.next());
+    }
+
+    @Test
+    @Transactional
+    public void testFindAllAfterLinksPrevOnlyWhenRowsPrecede() {
+        Account receiver = createAccount();
+        for (int i = 0; i < 3; i++) {
+            TransactionCreatedDTO transaction = new TransactionCreatedDTO();
+            transaction.setReceiverAccId(receiver.getId());
+            transaction.setSenderAccId(createAccount().getId());
+            transaction.setAmount(100);
+            transaction.setDescription("Test " + i);
+            transactionService.create(transaction);
+        }
+        List<Transaction> all = transactionService.findAllAfter(0, PageRequest.of(0, 1));
+        long smallest = all.get(0).getId();
+
+        CursorPage<Transaction> first = CursorPage.after(all, CursorPage.encode(smallest), 2,
+                Transaction::getId, transactionService::existsBefore);
+        CursorPage<Transaction> later = CursorPage.after(
+                transactionService.findAllAfter(smallest, CursorPage.request(2)), CursorPage.encode(smallest), 2,
+                Transaction::getId, transactionService::existsBefore);
+
+        Assertions.assertFalse(transactionService.existsBefore(smallest));
+        Assertions.assertNull(first.prev());
+        Assertions.assertNotNull(later.prev());
+    }
+
+    @Test
+    @Transactional
+    public void testExportByAccIdWritesCsv() {
+        Account sender = createAccount();
+        Account receiver = createAccount();
+
+        TransactionCreatedDTO transaction = new TransactionCreatedDTO();
+        transaction.setReceiverAccId(receiver.getId());
+        transaction.setSenderAccId(sender.getId());
+        transaction.setAmount(500);
+        transaction.setDescription("Test");
+        transactionService.create(transaction);
+
+        StringWriter out = new StringWriter();
+        transactionService.exportByAccId(sender.getId(), 1, out);
+        String[] lines = out.toString().split("\n");
+
+        Assertions.assertEquals(2, lines.length);
+        Assertions.assertTrue(lines[0].startsWith("\"Transaction ID\""));
+        Assertions.assertTrue(lines[1].contains("\"EXPENSE\",\"500\",\"" + sender.getId() + "\",\"Test\""));
+    }
+
+    @Test
+    @Transactional
+    public void testExportByAccIdInvalid() {
+        Assertions.assertThrows(InvalidDataException.class,
+                () -> transactionService.exportByAccId(Long.MAX_VALUE, 1, new StringWriter()));
+    }
+
+    @Test
+    @Transactional
+    public void testFindRecentReturnsNewestFirst() {
+        Account sender = createAccount();
+        Account receiver = createAccount();
+        TransactionCreatedDTO transaction = new TransactionCreatedDTO();
+        transaction.setReceiverAccId(receiver.getId());
+        transaction.setSenderAccId(sender.getId());
+        transaction.setAmount(1);
+        transaction.setDescription("Recent");
+        transactionService.create(transaction);
+        transactionService.create(transaction);
+
+        List<Transaction> recent = transactionService.findRecent(PageRequest.of(0, 3));
+
+        Assertions.assertEquals(3, recent.size());
+        Assertions.assertTrue(recent.get(0).getId() > recent.get(1).getId());
+        Assertions.assertTrue(recent.get(1).getId() > recent.get(2).getId());
+        Assertions.assertEquals(receiver.getId(), recent.get(0).getAccount().getId());
+    }
+
+    @Test
+    @Transactional
+    public void testFindShortInfoAndDetailsProjectAccountAndOwner() {
+        Account sender = createAccount();
+        Account receiver = createAccount();
+        TransactionCreatedDTO transaction = new TransactionCreatedDTO();
+        transaction.setReceiverAccId(receiver.getId());
+        transaction.setSenderAccId(sender.getId());
+        transaction.setAmount(7);
+        transaction.setDescription("Projected");
+        transactionService.create(transaction);
+
+        List<TransactionShortInfo> recent = transactionService.findRecentShortInfo(PageRequest.of(0, 2));
+        TransactionDetails details = transactionService.findDetailsById(recent.get(1).getId());
+
+        Assertions.assertEquals(receiver.getName(), recent.get(0).getAccName());
+        Assertions.assertEquals("PROFIT", recent.get(0).getType());
+        Assertions.assertEquals(sender.getId(), details.getAccId());
+        Assertions.assertEquals(sender.getName(), details.getAccName());
+        Assertions.assertEquals(7, details.getAmount());
+        Assertions.assertEquals("EXPENSE", details.getType());
+        Assertions.assertEquals("Projected", details.getDescription());
+        Assertions.assertEquals(sender.getOwner().getId(), details.getOwnerId());
+        Assertions.assertEquals(sender.getOwner().getFirstName() + " " + sender.getOwner().getLastName(),
+                details.getOwnerName());
+        Assertions.assertThrows(EntityNotFoundException.class, () -> transactionService.findDetailsById(Long.MIN_VALUE));
+    }
+
+    @Test
+    @Transactional
+    public void testCreateCountsTransferOutcomes() {
+        Account sender = createAccount();
+        Account receiver = createAccount();
+        TransactionCreatedDTO transaction = new TransactionCreatedDTO();
+        transaction.setReceiverAccId(receiver.getId());
+        transaction.setSenderAccId(sender.getId());
+        transaction.setAmount(sender.getBalance());
+        transaction.setDescription("Outcomes");
+        double succeeded = transfers("success");
+        double insufficient = transfers("insufficient_funds");
+
+        transactionService.create(transaction);
+        Assertions.assertThrows(InsufficientFundsException.class, () -> transactionService.create(transaction));
+
+        Assertions.assertEquals(succeeded + 1, transfers("success"));
+        Assertions.assertEquals(insufficient + 1, transfers("insufficient_funds"));
+    }
+
+    @Test
+    public void testCreateQueryBudget() {
+        TransactionCreatedDTO transaction = new TransactionCreatedDTO();
+        transaction.setReceiverAccId(createAccount().getId());
+        transaction.setSenderAccId(createAccount().getId());
+        transaction.setAmount(1);
+        transaction.setDescription("Budget");
+        entityManagerFactory.getCache().evictAll();
+
+        queryCounter.assertAtMost(9, () -> transactionService.create(transaction));
+    }
+
+    @Test
+    public void testFindQueryBudget() {
+        for (int i = 0; i < 25; i++) {
+            TransactionCreatedDTO transaction = new TransactionCreatedDTO();
+            transaction.setReceiverAccId(createAccount().getId());
+            transaction.setSenderAccId(createAccount().getId());
+            transaction.setAmount(1);
+            transaction.setDescription("Budget");
+            transactionService.create(transaction);
+        }
+        long id = transactionService.findRecent(PageRequest.of(0, 1)).get(0).getId();
+
+        assertQueryBudget(1, "/transactions?limit=1");
+        assertQueryBudget(1, "/transactions?limit=50");
+        assertQueryBudget(1, "/transactions/recent?limit=1");
+        assertQueryBudget(1, "/transactions/recent?limit=50");
+        assertQueryBudget(1, "/transactions/" + id);
+    }
+
+    private void assertQueryBudget(int budget, String url) {
+        entityManagerFactory.getCache().evictAll();
+        queryCounter.assertAtMost(budget, () -> mockMvc.perform(get(url)).andExpect(status().isOk()));
+    }
+
+    private double transfers(String outcome) {
+        return meterRegistry.get("finance.transfers").tag("outcome", outcome).counter().count();
+    }
+
     private Account createAccount() {
         Random random = new Random();
         Account account = new Account();
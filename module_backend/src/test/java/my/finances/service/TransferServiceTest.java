@@ -0,0 +1,174 @@
+package my.finances.service;
+
+import my.finances.dto.BatchItemResult;
+import my.finances.dto.TransactionCreatedDTO;
+import my.finances.exception.InvalidDataException;
+import my.finances.persistence.entity.Account;
+import my.finances.persistence.entity.User;
+import my.finances.persistence.repository.AccountRepository;
+import my.finances.persistence.repository.TransactionRepository;
+import my.finances.persistence.repository.UserRepository;
+import org.junit.jupiter.api.Assertions;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.transaction.annotation.Transactional;
+
+import java.util.ArrayList;
+import java.util.Date;
+import java.util.List;
+import java.util.UUID;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+import java.util.concurrent.ThreadLocalRandom;
+
+@SpringBootTest(properties = "finance.transfer.batch.chunk-size=4")
+public class TransferServiceTest {
+
+    @Autowired
+    private AccountRepository accountRepository;
+
+    @Autowired
+    private TransactionRepository transactionRepository;
+
+    @Autowired
+    private UserRepository userRepository;
+
+    @Autowired
+    private TransferService transferService;
+
+    @Autowired
+    private AccountService accountService;
+
+    @Autowired
+    private UserService userService;
+
+    @Test
+    @Transactional
+    public void testTransferMovesBalance() {
+        Account sender = createAccount(10_000);
+        Account receiver = createAccount(10_000);
+
+        transferService.transfer(transfer(sender, receiver, 500));
+
+        Assertions.assertEquals(9_500, accountRepository.findById(sender.getId()).get().getBalance());
+        Assertions.assertEquals(10_500, accountRepository.findById(receiver.getId()).get().getBalance());
+    }
+
+    @Test
+    public void testInsufficientFundsLeavesBothBalances() {
+        Account receiver = createAccount(10_000);
+        Account sender = createAccount(100);
+
+        Assertions.assertThrows(InvalidDataException.class,
+                () -> transferService.transfer(transfer(sender, receiver, 500)));
+
+        Assertions.assertEquals(100, accountRepository.findById(sender.getId()).get().getBalance());
+        Assertions.assertEquals(10_000, accountRepository.findById(receiver.getId()).get().getBalance());
+    }
+
+    @Test
+    public void testTransferAllReportsEachItem() {
+        Account first = createAccount(1_000);
+        Account second = createAccount(1_000);
+        Account poor = createAccount(10);
+        List<TransactionCreatedDTO> transfers = new ArrayList<>();
+        for (int i = 0; i < 10; i++) {
+            transfers.add(transfer(first, second, 100));
+        }
+        transfers.add(transfer(poor, first, 500));
+        transfers.add(transfer(first, first, 1));
+        TransactionCreatedDTO missing = transfer(first, second, 1);
+        missing.setReceiverAccId(Long.MAX_VALUE);
+        transfers.add(missing);
+        transfers.add(transfer(first, second, 1));
+
+        List<BatchItemResult> results = transferService.transferAll(transfers);
+
+        Assertions.assertEquals(transfers.size(), results.size());
+        for (int i = 0; i < 10; i++) {
+            Assertions.assertTrue(results.get(i).success());
+        }
+        Assertions.assertEquals("Insufficient funds", results.get(10).error());
+        Assertions.assertEquals("Invalid data", results.get(11).error());
+        Assertions.assertEquals("Receiver does not exist", results.get(12).error());
+        Assertions.assertEquals("Insufficient funds", results.get(13).error());
+        Assertions.assertEquals(0, accountRepository.findById(first.getId()).get().getBalance());
+        Assertions.assertEquals(2_000, accountRepository.findById(second.getId()).get().getBalance());
+        Assertions.assertEquals(10, transactionRepository.countByAccountId(first.getId()));
+        Assertions.assertEquals(2_000, accountService.findBalanceAt(second.getId(), new Date()));
+    }
+
+    @Test
+    public void testConcurrentTransfersConserveBalances() throws Exception {
+        List<Account> accounts = new ArrayList<>();
+        for (int i = 0; i < 8; i++) {
+            accounts.add(createAccount(1_000));
+        }
+        try {
+            ExecutorService executor = Executors.newFixedThreadPool(8);
+            List<Future<Boolean>> futures = new ArrayList<>();
+            for (int i = 0; i < 200; i++) {
+                futures.add(executor.submit(() -> {
+                    ThreadLocalRandom random = ThreadLocalRandom.current();
+                    Account sender = accounts.get(random.nextInt(accounts.size()));
+                    Account receiver = accounts.get(random.nextInt(accounts.size()));
+                    if (sender == receiver) {
+                        return false;
+                    }
+                    try {
+                        transferService.transfer(transfer(sender, receiver, 1 + random.nextInt(300)));
+                        return true;
+                    } catch (InvalidDataException e) {
+                        return false;
+                    }
+                }));
+            }
+            int accepted = 0;
+            for (Future<Boolean> future : futures) {
+                accepted += future.get() ? 1 : 0;
+            }
+            executor.shutdown();
+
+            long total = 0;
+            long legs = 0;
+            for (Account account : accounts) {
+                int balance = accountRepository.findById(account.getId()).get().getBalance();
+                Assertions.assertTrue(balance >= 0);
+                total += balance;
+                legs += transactionRepository.countByAccountId(account.getId());
+            }
+            Assertions.assertEquals(8 * 1_000, total);
+            Assertions.assertEquals(accepted * 2L, legs);
+        } finally {
+            accounts.forEach(account -> userService.delete(account.getOwner().getId()));
+        }
+    }
+
+    private TransactionCreatedDTO transfer(Account sender, Account receiver, int amount) {
+        TransactionCreatedDTO transaction = new TransactionCreatedDTO();
+        transaction.setSenderAccId(sender.getId());
+        transaction.setReceiverAccId(receiver.getId());
+        transaction.setAmount(amount);
+        transaction.setDescription("Test");
+        return transaction;
+    }
+
+    private Account createAccount(int balance) {
+        Account account = new Account();
+        account.setName(UUID.randomUUID().toString().substring(0, 8));
+        account.setBalance(balance);
+        account.setOwner(createUser());
+        accountRepository.save(account);
+        return account;
+    }
+
+    private User createUser() {
+        User user = new User();
+        user.setFirstName(UUID.randomUUID().toString().substring(0, 8));
+        user.setLastName(UUID.randomUUID().toString().substring(0, 8));
+        userRepository.save(user);
+        return user;
+    }
+}
@@ -1,20 +1,33 @@
 package my.finances.service;
 
+import jakarta.persistence.EntityManagerFactory;
 import jakarta.persistence.EntityNotFoundException;
 import my.finances.dto.UserCreatedDTO;
+import my.finances.dto.UserInfo;
+import my.finances.dto.UserWithAccountNumberDTO;
 import my.finances.exception.InvalidDataException;
+import my.finances.persistence.entity.Account;
 import my.finances.persistence.entity.User;
+import my.finances.persistence.repository.AccountRepository;
 import my.finances.persistence.repository.UserRepository;
 
 import org.junit.jupiter.api.Assertions;
 import org.junit.jupiter.api.Test;
 import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.autoconfigure.web.servlet.AutoConfigureMockMvc;
 import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.data.domain.PageRequest;
+import org.springframework.test.web.servlet.MockMvc;
 import org.springframework.transaction.annotation.Transactional;
 
+import java.util.Collection;
 import java.util.UUID;
 
+import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.get;
+import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.status;
+
 @SpringBootTest
+@AutoConfigureMockMvc
 public class UserServiceTest {
 
     @Autowired
@@ -23,6 +36,18 @@ public class UserServiceTest {
     @Autowired
     private UserRepository userRepository;
 
+    @Autowired
+    private AccountRepository accountRepository;
+
+    @Autowired
+    private MockMvc mockMvc;
+
+    @Autowired
+    private QueryCounter queryCounter;
+
+    @Autowired
+    private EntityManagerFactory entityManagerFactory;
+
     @Test
     @Transactional
     public void testCreateValidUserData() {
@@ -80,6 +105,19 @@ public class UserServiceTest {
         Assertions.assertEquals(user.getFirstName(), foundUser.getFirstName());
     }
 
+    @Test
+    @Transactional
+    public void testFindInfoById() {
+        User user = userRepository.save(randomUser());
+
+        UserInfo info = userService.findInfoById(user.getId());
+
+        Assertions.assertEquals(user.getId(), info.id());
+        Assertions.assertEquals(user.getFirstName(), info.firstName());
+        Assertions.assertEquals(user.getLastName(), info.lastName());
+        Assertions.assertThrows(EntityNotFoundException.class, () -> userService.findInfoById(Long.MIN_VALUE));
+    }
+
     @Test
     @Transactional
     public void testFindByIdInvalid() {
@@ -133,6 +171,68 @@ public class UserServiceTest {
         Assertions.assertEquals(before - 1, after);
     }
 
+    @Test
+    @Transactional
+    public void testFindAllWithNumberOfAccounts() {
+        User user1 = randomUser();
+        userRepository.save(user1);
+        User user2 = randomUser();
+        userRepository.save(user2);
+        createAccount(user1);
+        createAccount(user1);
+
+        Collection<UserWithAccountNumberDTO> users =
+                userService.findAllWithNumberOfAccounts(user1.getId() - 1, PageRequest.of(0, 10));
+
+        Assertions.assertEquals(2, users.size());
+        Assertions.assertEquals(2, findNumber(users, user1.getId()));
+        Assertions.assertEquals(0, findNumber(users, user2.getId()));
+    }
+
+    @Test
+    public void testFindAllQueryBudget() {
+        for (int i = 0; i < 50; i++) {
+            createAccount(userRepository.save(randomUser()));
+        }
+
+        assertQueryBudget(1, "/users?limit=1");
+        assertQueryBudget(1, "/users?limit=50");
+    }
+
+    @Test
+    public void testFindByIdQueryBudget() {
+        User single = userRepository.save(randomUser());
+        createAccount(single);
+        User many = userRepository.save(randomUser());
+        for (int i = 0; i < 50; i++) {
+            createAccount(many);
+        }
+
+        assertQueryBudget(2, "/users/" + single.getId());
+        assertQueryBudget(2, "/users/" + many.getId());
+    }
+
+    private void assertQueryBudget(int budget, String url) {
+        entityManagerFactory.getCache().evictAll();
+        queryCounter.assertAtMost(budget, () -> mockMvc.perform(get(url)).andExpect(status().isOk()));
+    }
+
+    private int findNumber(Collection<UserWithAccountNumberDTO> users, long id) {
+        return users.stream()
+                .filter(e -> e.user().id() == id)
+                .findFirst()
+                .orElseThrow()
+                .number();
+    }
+
+    private void createAccount(User owner) {
+        Account account = new Account();
+        account.setName(UUID.randomUUID().toString().substring(0, 8));
+        account.setBalance(1_000);
+        account.setOwner(owner);
+        accountRepository.save(account);
+    }
+
     private User randomUser() {
         User user = new User();
         user.setFirstName(UUID.randomUUID().toString().substring(0, 8));
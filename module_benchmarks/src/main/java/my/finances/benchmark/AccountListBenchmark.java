@@ -0,0 +1,119 @@
+package my.finances.benchmark;
+
+import jakarta.persistence.EntityManagerFactory;
+import my.finances.dto.AccountShortInfo;
+import my.finances.persistence.entity.Account;
+import my.finances.persistence.repository.AccountRepository;
+import my.finances.persistence.repository.LedgerJdbcRepository;
+import my.finances.persistence.repository.TransactionRepository;
+import my.finances.persistence.types.TransactionType;
+import org.hibernate.SessionFactory;
+import org.hibernate.stat.Statistics;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Level;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.TearDown;
+import org.openjdk.jmh.annotations.Warmup;
+import org.springframework.boot.WebApplicationType;
+import org.springframework.context.ConfigurableApplicationContext;
+import org.springframework.data.domain.PageRequest;
+import org.springframework.data.domain.Pageable;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import java.util.ArrayList;
+import java.util.Date;
+import java.util.List;
+import java.util.concurrent.TimeUnit;
+import java.util.function.Supplier;
+
+/**
+ * Builds the accounts list the way {@code GET /accounts} used to, loading every account and then each account's
+ * transactions to count them, and through the single aggregate query it uses now. Setup prints the statements each
+ * read issues against a cold second-level cache.
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@Warmup(iterations = 3, time = 2)
+@Measurement(iterations = 5, time = 2)
+@Fork(1)
+public class AccountListBenchmark {
+
+    private static final int TRANSACTIONS_PER_ACCOUNT = 10;
+
+    @Param({"100", "1000"})
+    private int accounts;
+
+    private ConfigurableApplicationContext context;
+    private AccountRepository accountRepository;
+    private TransactionRepository transactionRepository;
+    private TransactionTemplate transaction;
+    private Pageable page;
+
+    @Setup(Level.Trial)
+    public void setUp() {
+        context = BackendContext.start(WebApplicationType.NONE,
+                List.of("--spring.jpa.properties.hibernate.generate_statistics=true"));
+        accountRepository = context.getBean(AccountRepository.class);
+        transactionRepository = context.getBean(TransactionRepository.class);
+        transaction = new TransactionTemplate(context.getBean(PlatformTransactionManager.class));
+        transaction.setReadOnly(true);
+        page = PageRequest.of(0, accounts);
+
+        List<LedgerJdbcRepository.Entry> entries = new ArrayList<>(accounts * TRANSACTIONS_PER_ACCOUNT);
+        Date created = new Date();
+        for (int i = 0; i < accounts; i++) {
+            long accountId = BackendContext.createAccount(context, 0).getId();
+            for (int j = 0; j < TRANSACTIONS_PER_ACCOUNT; j++) {
+                entries.add(new LedgerJdbcRepository.Entry(accountId, TransactionType.PROFIT, j + 1,
+                        "Transaction " + j, created));
+            }
+        }
+        LedgerJdbcRepository ledgerJdbcRepository = context.getBean(LedgerJdbcRepository.class);
+        new TransactionTemplate(context.getBean(PlatformTransactionManager.class))
+                .executeWithoutResult(status -> ledgerJdbcRepository.insertTransactions(entries));
+
+        System.out.printf("%n%d accounts: perAccountLookups issues %d statements, aggregate issues %d%n",
+                accounts, countStatements(this::perAccountLookups), countStatements(this::aggregate));
+    }
+
+    @TearDown(Level.Trial)
+    public void tearDown() {
+        context.close();
+    }
+
+    @Benchmark
+    public List<AccountShortInfo> perAccountLookups() {
+        return transaction.execute(status -> {
+            List<AccountShortInfo> infos = new ArrayList<>(accounts);
+            for (Account account : accountRepository.findAll()) {
+                infos.add(new AccountShortInfo(account,
+                        transactionRepository.findAllByAccountId(account.getId()).size()));
+            }
+            return infos;
+        });
+    }
+
+    @Benchmark
+    public List<AccountShortInfo> aggregate() {
+        return transaction.execute(status -> accountRepository.findAllWithTransactionNumberAfter(0, page));
+    }
+
+    private long countStatements(Supplier<List<AccountShortInfo>> read) {
+        EntityManagerFactory entityManagerFactory = context.getBean(EntityManagerFactory.class);
+        entityManagerFactory.getCache().evictAll();
+        Statistics statistics = entityManagerFactory.unwrap(SessionFactory.class).getStatistics();
+        statistics.clear();
+        read.get();
+        return statistics.getPrepareStatementCount();
+    }
+}
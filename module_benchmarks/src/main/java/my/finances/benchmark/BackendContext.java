@@ -0,0 +1,57 @@
+package my.finances.benchmark;
+
+import my.finances.MyFinancesBackendApplication;
+import my.finances.persistence.entity.Account;
+import my.finances.persistence.entity.User;
+import my.finances.persistence.repository.AccountRepository;
+import my.finances.persistence.repository.UserRepository;
+import org.springframework.boot.WebApplicationType;
+import org.springframework.boot.builder.SpringApplicationBuilder;
+import org.springframework.context.ConfigurableApplicationContext;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.UUID;
+
+/**
+ * Starts the backend against a fresh in-memory H2 database, so each benchmark trial measures the real services,
+ * repositories and second-level cache configuration. Later command-line overrides win, which lets a run point the
+ * backend at another database or switch its transfer mode.
+ */
+final class BackendContext {
+
+    private BackendContext() {
+    }
+
+    static ConfigurableApplicationContext start() {
+        return start(WebApplicationType.NONE, List.of());
+    }
+
+    static ConfigurableApplicationContext start(WebApplicationType webApplicationType, List<String> overrides) {
+        List<String> args = new ArrayList<>(List.of(
+                "--spring.datasource.url=jdbc:h2:mem:" + UUID.randomUUID() + ";DB_CLOSE_DELAY=-1",
+                "--spring.datasource.driver-class-name=org.h2.Driver",
+                "--spring.datasource.username=sa",
+                "--spring.datasource.password=",
+                "--spring.jpa.properties.hibernate.dialect=org.hibernate.dialect.H2Dialect",
+                "--logging.level.root=warn"));
+        args.addAll(overrides);
+        return new SpringApplicationBuilder(MyFinancesBackendApplication.class)
+                .web(webApplicationType)
+                .logStartupInfo(false)
+                .run(args.toArray(String[]::new));
+    }
+
+    static Account createAccount(ConfigurableApplicationContext context, int balance) {
+        User owner = new User();
+        owner.setFirstName("Bench");
+        owner.setLastName("Mark");
+        context.getBean(UserRepository.class).save(owner);
+
+        Account account = new Account();
+        account.setName("Benchmark " + UUID.randomUUID());
+        account.setBalance(balance);
+        account.setOwner(owner);
+        return context.getBean(AccountRepository.class).save(account);
+    }
+}
@@ -0,0 +1,67 @@
+package my.finances.benchmark;
+
+import my.finances.dto.AccountShortInfo;
+import my.finances.dto.TransactionShortInfo;
+import my.finances.persistence.entity.Account;
+import my.finances.persistence.entity.Transaction;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+
+import java.util.List;
+import java.util.concurrent.TimeUnit;
+
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@Warmup(iterations = 3, time = 2)
+@Measurement(iterations = 5, time = 2)
+@Fork(1)
+public class DtoMappingBenchmark {
+
+    private List<Transaction> transactions;
+    private List<Account> accounts;
+
+    @Setup
+    public void setUp() {
+        transactions = Fixtures.transactions(Fixtures.PAGE_SIZE);
+        accounts = Fixtures.accounts(Fixtures.PAGE_SIZE);
+    }
+
+    @Benchmark
+    public List<TransactionShortInfo> transactionShortInfo() {
+        return transactions.stream()
+                .map(TransactionShortInfo::new)
+                .toList();
+    }
+
+    @Benchmark
+    public List<TransactionShortInfo> transactionShortInfoFromGetters() {
+        return transactions.stream()
+                .map(transaction -> new TransactionShortInfo(transaction.getId(), transaction.getAmount(),
+                        transaction.getTransactionType(), transaction.getAccount().getName()))
+                .toList();
+    }
+
+    @Benchmark
+    public List<AccountShortInfo> accountShortInfoFromEntity() {
+        return accounts.stream()
+                .map(account -> new AccountShortInfo(account, 10))
+                .toList();
+    }
+
+    @Benchmark
+    public List<AccountShortInfo> accountShortInfoFromGetters() {
+        return accounts.stream()
+                .map(account -> new AccountShortInfo(account.getId(), account.getBalance(), account.getName(), 10L,
+                        account.getOwner().getFirstName(), account.getOwner().getLastName()))
+                .toList();
+    }
+}
@@ -0,0 +1,58 @@
+package my.finances.benchmark;
+
+import my.finances.persistence.entity.Account;
+import my.finances.persistence.entity.Transaction;
+import my.finances.persistence.entity.User;
+import my.finances.persistence.types.TransactionType;
+
+import java.util.ArrayList;
+import java.util.List;
+
+final class Fixtures {
+
+    static final int PAGE_SIZE = 1000;
+
+    private Fixtures() {
+    }
+
+    static List<User> users(int count) {
+        List<User> users = new ArrayList<>(count);
+        for (int i = 0; i < count; i++) {
+            User user = new User();
+            user.setId(i + 1);
+            user.setFirstName("First" + i);
+            user.setLastName("Last" + i);
+            users.add(user);
+        }
+        return users;
+    }
+
+    static List<Account> accounts(int count) {
+        List<User> owners = users(count);
+        List<Account> accounts = new ArrayList<>(count);
+        for (int i = 0; i < count; i++) {
+            Account account = new Account();
+            account.setId(i + 1);
+            account.setName("Account " + i);
+            account.setBalance(i * 100);
+            account.setOwner(owners.get(i));
+            accounts.add(account);
+        }
+        return accounts;
+    }
+
+    static List<Transaction> transactions(int count) {
+        List<Account> accounts = accounts(Math.max(1, count / 10));
+        List<Transaction> transactions = new ArrayList<>(count);
+        for (int i = 0; i < count; i++) {
+            Transaction transaction = new Transaction();
+            transaction.setId(i + 1);
+            transaction.setAmount(i % 1000 + 1);
+            transaction.setTransactionType(i % 2 == 0 ? TransactionType.EXPENSE : TransactionType.PROFIT);
+            transaction.setDescription("Transaction " + i);
+            transaction.setAccount(accounts.get(i % accounts.size()));
+            transactions.add(transaction);
+        }
+        return transactions;
+    }
+}
@@ -0,0 +1,77 @@
+package my.finances.benchmark;
+
+import com.fasterxml.jackson.core.JsonProcessingException;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.fasterxml.jackson.databind.SerializationFeature;
+import my.finances.dto.AccountShortInfo;
+import my.finances.dto.CursorPage;
+import my.finances.dto.TransactionShortInfo;
+import my.finances.dto.UserInfo;
+import my.finances.dto.UserWithAccountNumberDTO;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+import org.springframework.http.converter.json.Jackson2ObjectMapperBuilder;
+
+import java.util.List;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Serializes one full page of each list endpoint with an {@link ObjectMapper} configured like the one Spring Boot
+ * gives the backend's message converters.
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@Warmup(iterations = 3, time = 2)
+@Measurement(iterations = 5, time = 2)
+@Fork(1)
+public class JacksonSerializationBenchmark {
+
+    private ObjectMapper objectMapper;
+    private CursorPage<TransactionShortInfo> transactions;
+    private CursorPage<AccountShortInfo> accounts;
+    private CursorPage<UserWithAccountNumberDTO> users;
+
+    @Setup
+    public void setUp() {
+        objectMapper = Jackson2ObjectMapperBuilder.json()
+                .featuresToDisable(SerializationFeature.WRITE_DATES_AS_TIMESTAMPS)
+                .build();
+        transactions = page(Fixtures.transactions(Fixtures.PAGE_SIZE).stream()
+                .map(TransactionShortInfo::new)
+                .toList());
+        accounts = page(Fixtures.accounts(Fixtures.PAGE_SIZE).stream()
+                .map(account -> new AccountShortInfo(account, 10))
+                .toList());
+        users = page(Fixtures.users(Fixtures.PAGE_SIZE).stream()
+                .map(user -> new UserWithAccountNumberDTO(new UserInfo(user), 2))
+                .toList());
+    }
+
+    @Benchmark
+    public byte[] transactions() throws JsonProcessingException {
+        return objectMapper.writeValueAsBytes(transactions);
+    }
+
+    @Benchmark
+    public byte[] accounts() throws JsonProcessingException {
+        return objectMapper.writeValueAsBytes(accounts);
+    }
+
+    @Benchmark
+    public byte[] users() throws JsonProcessingException {
+        return objectMapper.writeValueAsBytes(users);
+    }
+
+    private static <T> CursorPage<T> page(List<T> items) {
+        return new CursorPage<>(items, CursorPage.encode(items.size()), null);
+    }
+}
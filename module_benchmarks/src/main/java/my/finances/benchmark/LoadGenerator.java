@@ -0,0 +1,243 @@
+package my.finances.benchmark;
+
+import com.fasterxml.jackson.databind.JsonNode;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import org.HdrHistogram.Recorder;
+import org.springframework.boot.WebApplicationType;
+import org.springframework.context.ConfigurableApplicationContext;
+
+import java.io.File;
+import java.io.IOException;
+import java.net.URI;
+import java.net.http.HttpClient;
+import java.net.http.HttpRequest;
+import java.net.http.HttpResponse;
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.EnumMap;
+import java.util.List;
+import java.util.Map;
+import java.util.UUID;
+import java.util.concurrent.Callable;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+import java.util.concurrent.ThreadLocalRandom;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.LongAdder;
+import java.util.function.Function;
+import java.util.function.Predicate;
+
+/**
+ * Closed-loop HTTP load generator for the backend API. Each virtual client sends a request, waits for the complete
+ * response and sends the next one at once, so the load follows what the backend can sustain. Every run seeds its own
+ * users and accounts, then repeats the configured operation mix once per contention level: transfers only move
+ * money between the first {@code hot-accounts} seeded accounts, from a couple of hot accounts to all of them.
+ * Without {@code --base-url} the backend is started in-process against a fresh H2 database.
+ */
+public final class LoadGenerator {
+
+    private static final int PAGE_LIMIT = 1000;
+    private static final int INITIAL_BALANCE = 1_000_000_000;
+    private static final Duration REQUEST_TIMEOUT = Duration.ofSeconds(60);
+
+    private final LoadOptions options;
+    private final String baseUrl;
+    private final ExecutorService executor;
+    private final HttpClient client;
+    private final ObjectMapper objectMapper = new ObjectMapper();
+    private final String runId = UUID.randomUUID().toString();
+
+    private LoadGenerator(LoadOptions options, String baseUrl, ExecutorService executor) {
+        this.options = options;
+        this.baseUrl = baseUrl;
+        this.executor = executor;
+        this.client = HttpClient.newBuilder()
+                .version(HttpClient.Version.HTTP_1_1)
+                .connectTimeout(Duration.ofSeconds(5))
+                .executor(executor)
+                .build();
+    }
+
+    public static void main(String[] args) throws Exception {
+        LoadOptions options = LoadOptions.parse(args);
+        ConfigurableApplicationContext backend = null;
+        String baseUrl = options.baseUrl();
+        if (baseUrl == null) {
+            List<String> backendArgs = new ArrayList<>(options.backendArgs());
+            backendArgs.add(0, "--server.port=0");
+            backend = BackendContext.start(WebApplicationType.SERVLET, backendArgs);
+            baseUrl = "http://localhost:" + backend.getEnvironment().getProperty("local.server.port");
+        }
+        try (ExecutorService executor = Executors.newVirtualThreadPerTaskExecutor()) {
+            LoadReport report = new LoadGenerator(options, baseUrl, executor).run();
+            System.out.print(report.format());
+            new ObjectMapper().writerWithDefaultPrettyPrinter().writeValue(new File(options.output()), report);
+        } finally {
+            if (backend != null) {
+                backend.close();
+            }
+        }
+    }
+
+    private LoadReport run() throws Exception {
+        seed();
+        List<Long> userIds = ids("/users", user -> runId.equals(user.path("user").path("lastName").asText()),
+                user -> user.path("user").path("id"));
+        List<Long> accountIds = ids("/accounts", account -> account.path("name").asText().startsWith(runId),
+                account -> account.path("id"));
+
+        List<LoadReport.Scenario> scenarios = new ArrayList<>();
+        for (int hot : options.hotAccounts()) {
+            boolean all = hot == LoadOptions.ALL_ACCOUNTS || hot >= accountIds.size();
+            List<Long> hotIds = all ? accountIds : accountIds.subList(0, hot);
+            String label = all ? "all (" + accountIds.size() + ")" : String.valueOf(hot);
+            System.out.printf("Running %s with %d clients and hot accounts %s%n", options.mix(), options.clients(), label);
+            scenarios.add(runScenario(label, hotIds, userIds, accountIds));
+        }
+        return new LoadReport(options.clients(), options.duration().toSeconds(), scenarios);
+    }
+
+    private void seed() throws Exception {
+        List<Callable<Void>> users = new ArrayList<>();
+        for (int i = 0; i < options.users(); i++) {
+            String body = objectMapper.writeValueAsString(Map.of("firstName", "Load" + i, "lastName", runId));
+            users.add(() -> post("/users", body));
+        }
+        invokeAll(users);
+
+        List<Long> userIds = ids("/users", user -> runId.equals(user.path("user").path("lastName").asText()),
+                user -> user.path("user").path("id"));
+        List<Callable<Void>> accounts = new ArrayList<>();
+        for (long userId : userIds) {
+            for (int i = 0; i < options.accountsPerUser(); i++) {
+                String body = objectMapper.writeValueAsString(
+                        Map.of("name", runId + "-" + userId + "-" + i, "balance", INITIAL_BALANCE));
+                accounts.add(() -> post("/users/" + userId, body));
+            }
+        }
+        invokeAll(accounts);
+    }
+
+    private LoadReport.Scenario runScenario(String label, List<Long> hotIds, List<Long> userIds, List<Long> accountIds)
+            throws Exception {
+        Map<LoadOperation, Recorder> recorders = new EnumMap<>(LoadOperation.class);
+        Map<LoadOperation, LongAdder> errors = new EnumMap<>(LoadOperation.class);
+        options.mix().keySet().forEach(operation -> {
+            recorders.put(operation, new Recorder(3));
+            errors.put(operation, new LongAdder());
+        });
+        List<LoadOperation> weighted = new ArrayList<>();
+        options.mix().forEach((operation, weight) -> {
+            for (int i = 0; i < weight; i++) {
+                weighted.add(operation);
+            }
+        });
+
+        long stopAt = System.nanoTime() + options.warmup().plus(options.duration()).toNanos();
+        List<Future<?>> clients = new ArrayList<>(options.clients());
+        for (int i = 0; i < options.clients(); i++) {
+            clients.add(executor.submit(() -> {
+                ThreadLocalRandom random = ThreadLocalRandom.current();
+                while (System.nanoTime() < stopAt) {
+                    LoadOperation operation = weighted.get(random.nextInt(weighted.size()));
+                    HttpRequest request = request(operation, random, hotIds, userIds, accountIds);
+                    long started = System.nanoTime();
+                    boolean ok;
+                    try {
+                        ok = client.send(request, HttpResponse.BodyHandlers.discarding()).statusCode() < 400;
+                    } catch (IOException e) {
+                        ok = false;
+                    }
+                    recorders.get(operation).recordValue(Math.max(1, (System.nanoTime() - started) / 1000));
+                    if (!ok) {
+                        errors.get(operation).increment();
+                    }
+                }
+                return null;
+            }));
+        }
+
+        TimeUnit.NANOSECONDS.sleep(options.warmup().toNanos());
+        recorders.values().forEach(Recorder::reset);
+        errors.values().forEach(LongAdder::reset);
+        long measuredFrom = System.nanoTime();
+        for (Future<?> client : clients) {
+            client.get();
+        }
+        double seconds = (System.nanoTime() - measuredFrom) / (double) TimeUnit.SECONDS.toNanos(1);
+
+        List<LoadReport.Operation> operations = new ArrayList<>();
+        recorders.forEach((operation, recorder) -> operations.add(LoadReport.Operation.of(operation,
+                recorder.getIntervalHistogram(), errors.get(operation).sum(), seconds)));
+        double throughput = operations.stream().mapToDouble(LoadReport.Operation::throughput).sum();
+        return new LoadReport.Scenario(label, throughput, operations);
+    }
+
+    private HttpRequest request(LoadOperation operation, ThreadLocalRandom random,
+                                List<Long> hotIds, List<Long> userIds, List<Long> accountIds) {
+        return switch (operation) {
+            case TRANSFER -> {
+                int sender = random.nextInt(hotIds.size());
+                int receiver = (sender + 1 + random.nextInt(hotIds.size() - 1)) % hotIds.size();
+                String body = "{\"senderAccId\":" + hotIds.get(sender) + ",\"receiverAccId\":" + hotIds.get(receiver)
+                        + ",\"amount\":1,\"description\":\"load\"}";
+                yield builder("/transactions")
+                        .header("Content-Type", "application/json")
+                        .POST(HttpRequest.BodyPublishers.ofString(body))
+                        .build();
+            }
+            case ACCOUNTS -> builder("/accounts?limit=100").GET().build();
+            case USER -> builder("/users/" + userIds.get(random.nextInt(userIds.size()))).GET().build();
+            case EXPORT -> builder("/transactions/export/" + accountIds.get(random.nextInt(accountIds.size())))
+                    .GET()
+                    .build();
+        };
+    }
+
+    private List<Long> ids(String path, Predicate<JsonNode> filter, Function<JsonNode, JsonNode> id)
+            throws IOException, InterruptedException {
+        List<Long> ids = new ArrayList<>();
+        String after = null;
+        do {
+            String query = path + "?limit=" + PAGE_LIMIT + (after != null ? "&after=" + after : "");
+            HttpResponse<String> response = client.send(builder(query).GET().build(),
+                    HttpResponse.BodyHandlers.ofString());
+            if (response.statusCode() >= 400) {
+                throw new IllegalStateException("GET " + query + " returned " + response.statusCode());
+            }
+            JsonNode page = objectMapper.readTree(response.body());
+            for (JsonNode item : page.path("items")) {
+                if (filter.test(item)) {
+                    ids.add(id.apply(item).asLong());
+                }
+            }
+            after = page.path("next").isTextual() ? page.path("next").asText() : null;
+        } while (after != null);
+        if (ids.isEmpty()) {
+            throw new IllegalStateException("No seeded rows found at " + path);
+        }
+        return ids;
+    }
+
+    private Void post(String path, String body) throws IOException, InterruptedException {
+        HttpResponse<Void> response = client.send(builder(path)
+                .header("Content-Type", "application/json")
+                .POST(HttpRequest.BodyPublishers.ofString(body))
+                .build(), HttpResponse.BodyHandlers.discarding());
+        if (response.statusCode() >= 400) {
+            throw new IllegalStateException("POST " + path + " returned " + response.statusCode());
+        }
+        return null;
+    }
+
+    private void invokeAll(List<Callable<Void>> tasks) throws Exception {
+        for (Future<Void> task : executor.invokeAll(tasks)) {
+            task.get();
+        }
+    }
+
+    private HttpRequest.Builder builder(String path) {
+        return HttpRequest.newBuilder(URI.create(baseUrl + path)).timeout(REQUEST_TIMEOUT);
+    }
+}
@@ -0,0 +1,8 @@
+package my.finances.benchmark;
+
+enum LoadOperation {
+    TRANSFER,
+    ACCOUNTS,
+    USER,
+    EXPORT
+}
@@ -0,0 +1,77 @@
+package my.finances.benchmark;
+
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.EnumMap;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+
+/**
+ * Command-line options of {@link LoadGenerator}, given as {@code --name=value}. Options starting with
+ * {@code --spring.} or {@code --finance.} are passed on to the embedded backend.
+ */
+record LoadOptions(String baseUrl,
+                   int clients,
+                   Duration warmup,
+                   Duration duration,
+                   int users,
+                   int accountsPerUser,
+                   List<Integer> hotAccounts,
+                   Map<LoadOperation, Integer> mix,
+                   String output,
+                   List<String> backendArgs) {
+
+    static final int ALL_ACCOUNTS = 0;
+
+    static LoadOptions parse(String[] args) {
+        Map<String, String> values = new HashMap<>();
+        List<String> backendArgs = new ArrayList<>();
+        for (String arg : args) {
+            if (!arg.startsWith("--") || !arg.contains("=")) {
+                throw new IllegalArgumentException("Expected --name=value but got " + arg);
+            }
+            if (arg.startsWith("--spring.") || arg.startsWith("--finance.")) {
+                backendArgs.add(arg);
+                continue;
+            }
+            int split = arg.indexOf('=');
+            values.put(arg.substring(2, split), arg.substring(split + 1));
+        }
+        return new LoadOptions(
+                values.remove("base-url"),
+                Integer.parseInt(values.getOrDefault("clients", "200")),
+                Duration.ofSeconds(Long.parseLong(values.getOrDefault("warmup", "10"))),
+                Duration.ofSeconds(Long.parseLong(values.getOrDefault("duration", "30"))),
+                Integer.parseInt(values.getOrDefault("users", "100")),
+                Integer.parseInt(values.getOrDefault("accounts-per-user", "2")),
+                parseHotAccounts(values.getOrDefault("hot-accounts", "2,32,all")),
+                parseMix(values.getOrDefault("mix", "transfer=70,accounts=15,user=10,export=5")),
+                values.getOrDefault("output", "load-report.json"),
+                backendArgs);
+    }
+
+    private static List<Integer> parseHotAccounts(String value) {
+        List<Integer> levels = new ArrayList<>();
+        for (String level : value.split(",")) {
+            int accounts = level.equals("all") ? ALL_ACCOUNTS : Integer.parseInt(level);
+            if (accounts != ALL_ACCOUNTS && accounts < 2) {
+                throw new IllegalArgumentException("A transfer needs at least 2 hot accounts");
+            }
+            levels.add(accounts);
+        }
+        return levels;
+    }
+
+    private static Map<LoadOperation, Integer> parseMix(String value) {
+        Map<LoadOperation, Integer> mix = new EnumMap<>(LoadOperation.class);
+        for (String part : value.split(",")) {
+            String[] weight = part.split("=");
+            mix.put(LoadOperation.valueOf(weight[0].toUpperCase()), Integer.parseInt(weight[1]));
+        }
+        if (mix.values().stream().mapToInt(Integer::intValue).sum() <= 0) {
+            throw new IllegalArgumentException("The operation mix needs a positive weight");
+        }
+        return mix;
+    }
+}
@@ -0,0 +1,47 @@
+package my.finances.benchmark;
+
+import org.HdrHistogram.Histogram;
+
+import java.util.List;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Latency and throughput of one load run, grouped by contention level. Latencies are in milliseconds.
+ */
+record LoadReport(int clients, long durationSeconds, List<Scenario> scenarios) {
+
+    record Scenario(String hotAccounts, double throughput, List<Operation> operations) {
+    }
+
+    record Operation(LoadOperation operation, long count, long errors, double throughput,
+                     double p50, double p99, double p999, double max) {
+
+        static Operation of(LoadOperation operation, Histogram histogram, long errors, double seconds) {
+            return new Operation(operation, histogram.getTotalCount(), errors, histogram.getTotalCount() / seconds,
+                    millis(histogram.getValueAtPercentile(50)),
+                    millis(histogram.getValueAtPercentile(99)),
+                    millis(histogram.getValueAtPercentile(99.9)),
+                    millis(histogram.getMaxValue()));
+        }
+
+        private static double millis(long micros) {
+            return micros / (double) TimeUnit.MILLISECONDS.toMicros(1);
+        }
+    }
+
+    String format() {
+        StringBuilder out = new StringBuilder();
+        for (Scenario scenario : scenarios) {
+            out.append(String.format("%nhot accounts: %s, %d clients, %.1f req/s%n",
+                    scenario.hotAccounts(), clients, scenario.throughput()));
+            out.append(String.format("%-10s %10s %8s %10s %9s %9s %9s %9s%n",
+                    "operation", "count", "errors", "req/s", "p50 ms", "p99 ms", "p999 ms", "max ms"));
+            for (Operation operation : scenario.operations()) {
+                out.append(String.format("%-10s %10d %8d %10.1f %9.2f %9.2f %9.2f %9.2f%n",
+                        operation.operation(), operation.count(), operation.errors(), operation.throughput(),
+                        operation.p50(), operation.p99(), operation.p999(), operation.max()));
+            }
+        }
+        return out.toString();
+    }
+}
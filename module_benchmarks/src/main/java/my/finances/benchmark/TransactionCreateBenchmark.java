@@ -0,0 +1,56 @@
+package my.finances.benchmark;
+
+import my.finances.dto.TransactionCreatedDTO;
+import my.finances.service.TransactionService;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Level;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.TearDown;
+import org.openjdk.jmh.annotations.Warmup;
+import org.springframework.context.ConfigurableApplicationContext;
+
+import java.util.concurrent.TimeUnit;
+
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.Throughput)
+@OutputTimeUnit(TimeUnit.SECONDS)
+@Warmup(iterations = 3, time = 5)
+@Measurement(iterations = 5, time = 5)
+@Fork(1)
+public class TransactionCreateBenchmark {
+
+    private ConfigurableApplicationContext context;
+    private TransactionService transactionService;
+    private long senderId;
+    private long receiverId;
+
+    @Setup(Level.Trial)
+    public void setUp() {
+        context = BackendContext.start();
+        transactionService = context.getBean(TransactionService.class);
+        senderId = BackendContext.createAccount(context, Integer.MAX_VALUE).getId();
+        receiverId = BackendContext.createAccount(context, 0).getId();
+    }
+
+    @TearDown(Level.Trial)
+    public void tearDown() {
+        context.close();
+    }
+
+    @Benchmark
+    public void create() {
+        TransactionCreatedDTO transaction = new TransactionCreatedDTO();
+        transaction.setSenderAccId(senderId);
+        transaction.setReceiverAccId(receiverId);
+        transaction.setAmount(1);
+        transaction.setDescription("Benchmark");
+        transactionService.create(transaction);
+    }
+}
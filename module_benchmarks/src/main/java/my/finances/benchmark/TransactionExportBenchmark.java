@@ -0,0 +1,81 @@
+package my.finances.benchmark;
+
+import my.finances.persistence.repository.LedgerJdbcRepository;
+import my.finances.persistence.types.TransactionType;
+import my.finances.service.TransactionService;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Level;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.TearDown;
+import org.openjdk.jmh.annotations.Warmup;
+import org.springframework.context.ConfigurableApplicationContext;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import java.io.OutputStream;
+import java.io.Writer;
+import java.util.ArrayList;
+import java.util.Date;
+import java.util.List;
+import java.util.concurrent.TimeUnit;
+
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MILLISECONDS)
+@Warmup(iterations = 2)
+@Measurement(iterations = 5)
+@Fork(value = 1, jvmArgsAppend = "-Xmx4g")
+public class TransactionExportBenchmark {
+
+    private static final int SEED_CHUNK = 10_000;
+
+    @Param({"10000", "100000", "1000000"})
+    private int rows;
+
+    private ConfigurableApplicationContext context;
+    private TransactionService transactionService;
+    private long accountId;
+
+    @Setup(Level.Trial)
+    public void setUp() {
+        context = BackendContext.start();
+        transactionService = context.getBean(TransactionService.class);
+        accountId = BackendContext.createAccount(context, 0).getId();
+
+        LedgerJdbcRepository ledgerJdbcRepository = context.getBean(LedgerJdbcRepository.class);
+        TransactionTemplate transaction = new TransactionTemplate(context.getBean(PlatformTransactionManager.class));
+        Date created = new Date();
+        for (int seeded = 0; seeded < rows; seeded += SEED_CHUNK) {
+            List<LedgerJdbcRepository.Entry> entries = new ArrayList<>(SEED_CHUNK);
+            for (int i = seeded; i < Math.min(rows, seeded + SEED_CHUNK); i++) {
+                entries.add(new LedgerJdbcRepository.Entry(accountId,
+                        i % 2 == 0 ? TransactionType.EXPENSE : TransactionType.PROFIT,
+                        i % 1000 + 1, "Transaction " + i, created));
+            }
+            transaction.executeWithoutResult(status -> ledgerJdbcRepository.insertTransactions(entries));
+        }
+    }
+
+    @TearDown(Level.Trial)
+    public void tearDown() {
+        context.close();
+    }
+
+    @Benchmark
+    public void csv() {
+        transactionService.exportByAccId(accountId, 1, Writer.nullWriter());
+    }
+
+    @Benchmark
+    public void binary() {
+        transactionService.exportBinaryByAccId(accountId, OutputStream.nullOutputStream());
+    }
+}
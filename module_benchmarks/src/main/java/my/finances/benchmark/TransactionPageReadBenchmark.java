@@ -0,0 +1,95 @@
+package my.finances.benchmark;
+
+import my.finances.dto.TransactionShortInfo;
+import my.finances.persistence.repository.LedgerJdbcRepository;
+import my.finances.persistence.repository.TransactionRepository;
+import my.finances.persistence.types.TransactionType;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Level;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.TearDown;
+import org.openjdk.jmh.annotations.Warmup;
+import org.springframework.context.ConfigurableApplicationContext;
+import org.springframework.data.domain.PageRequest;
+import org.springframework.data.domain.Pageable;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import java.util.ArrayList;
+import java.util.Date;
+import java.util.List;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Reads one page of the transaction listing through the real repositories, once as fetch-joined entities mapped to
+ * {@link TransactionShortInfo} and once through the constructor projection the endpoint now uses. Each call runs in
+ * its own read-only transaction, so every page is loaded into a fresh persistence context.
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@Warmup(iterations = 3, time = 2)
+@Measurement(iterations = 5, time = 2)
+@Fork(1)
+public class TransactionPageReadBenchmark {
+
+    private static final int ROWS = 10_000;
+    private static final int ACCOUNTS = 100;
+
+    @Param({"50", "1000"})
+    private int limit;
+
+    private ConfigurableApplicationContext context;
+    private TransactionRepository transactionRepository;
+    private TransactionTemplate transaction;
+    private Pageable page;
+
+    @Setup(Level.Trial)
+    public void setUp() {
+        context = BackendContext.start();
+        transactionRepository = context.getBean(TransactionRepository.class);
+        transaction = new TransactionTemplate(context.getBean(PlatformTransactionManager.class));
+        transaction.setReadOnly(true);
+        page = PageRequest.of(0, limit);
+
+        List<Long> accountIds = new ArrayList<>(ACCOUNTS);
+        for (int i = 0; i < ACCOUNTS; i++) {
+            accountIds.add(BackendContext.createAccount(context, 0).getId());
+        }
+        LedgerJdbcRepository ledgerJdbcRepository = context.getBean(LedgerJdbcRepository.class);
+        TransactionTemplate writer = new TransactionTemplate(context.getBean(PlatformTransactionManager.class));
+        List<LedgerJdbcRepository.Entry> entries = new ArrayList<>(ROWS);
+        Date created = new Date();
+        for (int i = 0; i < ROWS; i++) {
+            entries.add(new LedgerJdbcRepository.Entry(accountIds.get(i % ACCOUNTS),
+                    i % 2 == 0 ? TransactionType.EXPENSE : TransactionType.PROFIT,
+                    i % 1000 + 1, "Transaction " + i, created));
+        }
+        writer.executeWithoutResult(status -> ledgerJdbcRepository.insertTransactions(entries));
+    }
+
+    @TearDown(Level.Trial)
+    public void tearDown() {
+        context.close();
+    }
+
+    @Benchmark
+    public List<TransactionShortInfo> entities() {
+        return transaction.execute(status -> transactionRepository.findAllAfter(0, page).stream()
+                .map(TransactionShortInfo::new)
+                .toList());
+    }
+
+    @Benchmark
+    public List<TransactionShortInfo> projection() {
+        return transaction.execute(status -> transactionRepository.findAllShortInfoAfter(0, page));
+    }
+}
@@ -0,0 +1,76 @@
+package my.finances.benchmark;
+
+import my.finances.dto.TransactionCreatedDTO;
+import my.finances.service.TransferService;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Level;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.TearDown;
+import org.openjdk.jmh.annotations.Threads;
+import org.openjdk.jmh.annotations.Warmup;
+import org.springframework.boot.WebApplicationType;
+import org.springframework.context.ConfigurableApplicationContext;
+
+import java.util.List;
+import java.util.concurrent.ThreadLocalRandom;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Concurrent {@link TransferService#transfer} calls between random pairs of {@code accounts} accounts, so fewer
+ * accounts means more threads contending for the same row locks. Runs on 8 threads; {@code -t} changes that.
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.Throughput)
+@OutputTimeUnit(TimeUnit.SECONDS)
+@Warmup(iterations = 3, time = 5)
+@Measurement(iterations = 5, time = 5)
+@Threads(8)
+@Fork(1)
+public class TransferBenchmark {
+
+    @Param({"2", "16", "256"})
+    private int accounts;
+
+    @Param({"direct", "sequencer"})
+    private String mode;
+
+    private ConfigurableApplicationContext context;
+    private TransferService transferService;
+    private long[] accountIds;
+
+    @Setup(Level.Trial)
+    public void setUp() {
+        context = BackendContext.start(WebApplicationType.NONE, List.of("--finance.transfer.mode=" + mode));
+        transferService = context.getBean(TransferService.class);
+        accountIds = new long[accounts];
+        for (int i = 0; i < accounts; i++) {
+            accountIds[i] = BackendContext.createAccount(context, 1_000_000_000).getId();
+        }
+    }
+
+    @TearDown(Level.Trial)
+    public void tearDown() {
+        context.close();
+    }
+
+    @Benchmark
+    public void transfer() {
+        ThreadLocalRandom random = ThreadLocalRandom.current();
+        int sender = random.nextInt(accounts);
+        int receiver = (sender + 1 + random.nextInt(accounts - 1)) % accounts;
+        TransactionCreatedDTO transaction = new TransactionCreatedDTO();
+        transaction.setSenderAccId(accountIds[sender]);
+        transaction.setReceiverAccId(accountIds[receiver]);
+        transaction.setAmount(1 + random.nextInt(100));
+        transaction.setDescription("Benchmark");
+        transferService.transfer(transaction);
+    }
+}
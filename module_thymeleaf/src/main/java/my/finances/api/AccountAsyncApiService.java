@@ -0,0 +1,15 @@
+package my.finances.api;
+
+import my.finances.model.CursorPageModel;
+import my.finances.model.AccountDetailsModel;
+import my.finances.model.AccountModel;
+
+import java.util.Collection;
+import java.util.Optional;
+import java.util.concurrent.CompletableFuture;
+
+public interface AccountAsyncApiService {
+    CompletableFuture<Optional<AccountDetailsModel>> findById(Long id);
+    CompletableFuture<Collection<AccountModel>> findAll();
+    CompletableFuture<Optional<CursorPageModel<AccountModel>>> findPage(String after, String before, int limit);
+}
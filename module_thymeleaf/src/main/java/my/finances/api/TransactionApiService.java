@@ -1,9 +1,12 @@
 package my.finances.api;
 
+import my.finances.model.CursorPageIterable;
+import my.finances.model.ExportJobModel;
 import my.finances.model.TransactionDetailsModel;
 import my.finances.model.TransactionModel;
 import my.finances.model.TransactionPostModel;
 
+import java.io.OutputStream;
 import java.util.Collection;
 import java.util.Optional;
 
@@ -11,6 +14,10 @@ public interface TransactionApiService {
     Boolean create(TransactionPostModel transactionPostModel);
     Optional<TransactionDetailsModel> findById(Long id);
     Collection<TransactionModel> findAll();
-    void exportByAccId(long id);
-    void exportAll();
+    CursorPageIterable<TransactionModel> stream();
+    Optional<ExportJobModel> exportByAccId(long id);
+    Optional<ExportJobModel> exportAll();
+    Optional<ExportJobModel> findExport(String jobId);
+    Optional<ExportJobModel> cancelExport(String jobId);
+    boolean downloadExport(String jobId, OutputStream out);
 }
@@ -0,0 +1,17 @@
+package my.finances.api;
+
+import my.finances.model.CursorPageModel;
+import my.finances.model.TransactionDetailsModel;
+import my.finances.model.TransactionModel;
+
+import java.util.Collection;
+import java.util.List;
+import java.util.Optional;
+import java.util.concurrent.CompletableFuture;
+
+public interface TransactionAsyncApiService {
+    CompletableFuture<Optional<TransactionDetailsModel>> findById(Long id);
+    CompletableFuture<Collection<TransactionModel>> findAll();
+    CompletableFuture<Optional<CursorPageModel<TransactionModel>>> findPage(String after, String before, int limit);
+    CompletableFuture<List<TransactionModel>> findRecent(int limit);
+}
@@ -0,0 +1,15 @@
+package my.finances.api;
+
+import my.finances.model.CursorPageModel;
+import my.finances.model.UserDetailsModel;
+import my.finances.model.UserWithAccNumberModel;
+
+import java.util.Collection;
+import java.util.Optional;
+import java.util.concurrent.CompletableFuture;
+
+public interface UserAsyncApiService {
+    CompletableFuture<Optional<UserDetailsModel>> findById(Long id);
+    CompletableFuture<Collection<UserWithAccNumberModel>> findAll();
+    CompletableFuture<Optional<CursorPageModel<UserWithAccNumberModel>>> findPage(String after, String before, int limit);
+}
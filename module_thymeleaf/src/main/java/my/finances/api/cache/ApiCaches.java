@@ -0,0 +1,80 @@
+package my.finances.api.cache;
+
+import com.github.benmanes.caffeine.cache.AsyncCacheLoader;
+import com.github.benmanes.caffeine.cache.AsyncLoadingCache;
+import com.github.benmanes.caffeine.cache.Caffeine;
+import com.github.benmanes.caffeine.cache.LoadingCache;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.binder.cache.CaffeineCacheMetrics;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Component;
+
+import java.time.Duration;
+import java.util.Map;
+import java.util.concurrent.ConcurrentSkipListMap;
+
+/**
+ * Holds the read-through caches in front of the backend API. Entries are refreshed in the background once they are
+ * older than {@code refresh-after-write}, so a burst of page views for the same list costs at most one backend call,
+ * and they expire after {@code expire-after-write} if nobody reads them. Loads are asynchronous, so callers on the
+ * non-blocking path never hold a thread while the backend answers. Every cache publishes its hit, miss, load and
+ * eviction counts as Micrometer {@code cache.*} meters tagged with its name.
+ */
+@Component
+public class ApiCaches {
+
+    public static final String USERS = "users";
+    public static final String USER_PAGES = "userPages";
+    public static final String USER_DETAILS = "userDetails";
+    public static final String ACCOUNTS = "accounts";
+    public static final String ACCOUNT_PAGES = "accountPages";
+    public static final String ACCOUNT_DETAILS = "accountDetails";
+    public static final String TRANSACTIONS = "transactions";
+    public static final String TRANSACTION_PAGES = "transactionPages";
+    public static final String TRANSACTION_DETAILS = "transactionDetails";
+    public static final String RECENT_TRANSACTIONS = "recentTransactions";
+
+    private final Map<String, LoadingCache<?, ?>> caches = new ConcurrentSkipListMap<>();
+    private final MeterRegistry registry;
+    private final long maximumSize;
+    private final Duration expireAfterWrite;
+    private final Duration refreshAfterWrite;
+
+    public ApiCaches(MeterRegistry registry,
+                     @Value("${finance.ui.cache.maximum-size:1000}") long maximumSize,
+                     @Value("${finance.ui.cache.expire-after-write:60s}") Duration expireAfterWrite,
+                     @Value("${finance.ui.cache.refresh-after-write:10s}") Duration refreshAfterWrite) {
+        this.registry = registry;
+        this.maximumSize = maximumSize;
+        this.expireAfterWrite = expireAfterWrite;
+        this.refreshAfterWrite = refreshAfterWrite;
+    }
+
+    public <K, V> AsyncLoadingCache<K, V> create(String name, AsyncCacheLoader<K, V> loader) {
+        AsyncLoadingCache<K, V> cache = Caffeine.newBuilder()
+                .maximumSize(maximumSize)
+                .expireAfterWrite(expireAfterWrite)
+                .refreshAfterWrite(refreshAfterWrite)
+                .recordStats()
+                .buildAsync(loader);
+        caches.put(name, cache.synchronous());
+        CaffeineCacheMetrics.monitor(registry, cache, name);
+        return cache;
+    }
+
+    public void invalidate(String name, Object key) {
+        LoadingCache<?, ?> cache = caches.get(name);
+        if (cache != null) {
+            cache.asMap().remove(key);
+        }
+    }
+
+    public void invalidateAll(String... names) {
+        for (String name : names) {
+            LoadingCache<?, ?> cache = caches.get(name);
+            if (cache != null) {
+                cache.invalidateAll();
+            }
+        }
+    }
+}
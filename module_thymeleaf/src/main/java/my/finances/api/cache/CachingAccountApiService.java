@@ -0,0 +1,30 @@
+package my.finances.api.cache;
+
+import lombok.AllArgsConstructor;
+import my.finances.api.AccountApiService;
+import my.finances.api.AccountAsyncApiService;
+import my.finances.model.AccountDetailsModel;
+import my.finances.model.AccountModel;
+import org.springframework.context.annotation.Primary;
+import org.springframework.stereotype.Service;
+
+import java.util.Collection;
+import java.util.Optional;
+
+@Service
+@Primary
+@AllArgsConstructor
+public class CachingAccountApiService implements AccountApiService {
+
+    private final AccountAsyncApiService accountAsyncApiService;
+
+    @Override
+    public Optional<AccountDetailsModel> findById(Long id) {
+        return accountAsyncApiService.findById(id).join();
+    }
+
+    @Override
+    public Collection<AccountModel> findAll() {
+        return accountAsyncApiService.findAll().join();
+    }
+}
@@ -0,0 +1,46 @@
+package my.finances.api.cache;
+
+import com.github.benmanes.caffeine.cache.AsyncLoadingCache;
+import my.finances.api.AccountAsyncApiService;
+import my.finances.api.impl.AccountAsyncApiServiceImpl;
+import my.finances.model.CursorPageModel;
+import my.finances.model.AccountDetailsModel;
+import my.finances.model.AccountModel;
+import org.springframework.context.annotation.Primary;
+import org.springframework.stereotype.Service;
+
+import java.util.Collection;
+import java.util.Optional;
+import java.util.concurrent.CompletableFuture;
+
+@Service
+@Primary
+public class CachingAccountAsyncApiService implements AccountAsyncApiService {
+
+    private final AsyncLoadingCache<Boolean, Collection<AccountModel>> accounts;
+    private final AsyncLoadingCache<Long, AccountDetailsModel> accountDetails;
+    private final PageCache<AccountModel> accountPages;
+
+    public CachingAccountAsyncApiService(AccountAsyncApiServiceImpl delegate, ApiCaches apiCaches) {
+        this.accounts = apiCaches.create(ApiCaches.ACCOUNTS, (key, executor) -> delegate.findAll());
+        this.accountDetails = apiCaches.create(ApiCaches.ACCOUNT_DETAILS,
+                (id, executor) -> delegate.findById(id).thenApply(account -> account.orElse(null)));
+        this.accountPages = new PageCache<>(apiCaches, ApiCaches.ACCOUNT_PAGES, delegate::findPage);
+    }
+
+    @Override
+    public CompletableFuture<Optional<AccountDetailsModel>> findById(Long id) {
+        return accountDetails.get(id).thenApply(Optional::ofNullable);
+    }
+
+    @Override
+    public CompletableFuture<Collection<AccountModel>> findAll() {
+        return accounts.get(Boolean.TRUE);
+    }
+
+    @Override
+    public CompletableFuture<Optional<CursorPageModel<AccountModel>>> findPage(String after, String before,
+                                                                               int limit) {
+        return accountPages.get(after, before, limit);
+    }
+}
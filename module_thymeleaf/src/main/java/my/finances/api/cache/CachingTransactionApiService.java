@@ -0,0 +1,82 @@
+package my.finances.api.cache;
+
+import my.finances.api.TransactionApiService;
+import my.finances.api.TransactionAsyncApiService;
+import my.finances.api.impl.TransactionApiServiceImpl;
+import my.finances.model.CursorPageIterable;
+import my.finances.model.ExportJobModel;
+import my.finances.model.TransactionDetailsModel;
+import my.finances.model.TransactionModel;
+import my.finances.model.TransactionPostModel;
+import org.springframework.context.annotation.Primary;
+import org.springframework.stereotype.Service;
+
+import java.io.OutputStream;
+import java.util.Collection;
+import java.util.Optional;
+
+@Service
+@Primary
+public class CachingTransactionApiService implements TransactionApiService {
+
+    private final TransactionApiServiceImpl delegate;
+    private final TransactionAsyncApiService transactionAsyncApiService;
+    private final ApiCaches apiCaches;
+
+    public CachingTransactionApiService(TransactionApiServiceImpl delegate,
+                                        TransactionAsyncApiService transactionAsyncApiService,
+                                        ApiCaches apiCaches) {
+        this.delegate = delegate;
+        this.transactionAsyncApiService = transactionAsyncApiService;
+        this.apiCaches = apiCaches;
+    }
+
+    @Override
+    public Boolean create(TransactionPostModel transactionPostModel) {
+        Boolean created = delegate.create(transactionPostModel);
+        apiCaches.invalidateAll(ApiCaches.TRANSACTIONS, ApiCaches.TRANSACTION_PAGES, ApiCaches.RECENT_TRANSACTIONS,
+                ApiCaches.ACCOUNTS, ApiCaches.ACCOUNT_PAGES, ApiCaches.ACCOUNT_DETAILS,
+                ApiCaches.USERS, ApiCaches.USER_PAGES, ApiCaches.USER_DETAILS);
+        return created;
+    }
+
+    @Override
+    public Optional<TransactionDetailsModel> findById(Long id) {
+        return transactionAsyncApiService.findById(id).join();
+    }
+
+    @Override
+    public Collection<TransactionModel> findAll() {
+        return transactionAsyncApiService.findAll().join();
+    }
+
+    @Override
+    public CursorPageIterable<TransactionModel> stream() {
+        return delegate.stream();
+    }
+
+    @Override
+    public Optional<ExportJobModel> exportByAccId(long id) {
+        return delegate.exportByAccId(id);
+    }
+
+    @Override
+    public Optional<ExportJobModel> exportAll() {
+        return delegate.exportAll();
+    }
+
+    @Override
+    public Optional<ExportJobModel> findExport(String jobId) {
+        return delegate.findExport(jobId);
+    }
+
+    @Override
+    public Optional<ExportJobModel> cancelExport(String jobId) {
+        return delegate.cancelExport(jobId);
+    }
+
+    @Override
+    public boolean downloadExport(String jobId, OutputStream out) {
+        return delegate.downloadExport(jobId, out);
+    }
+}
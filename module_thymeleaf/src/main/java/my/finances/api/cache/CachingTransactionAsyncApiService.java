@@ -0,0 +1,55 @@
+package my.finances.api.cache;
+
+import com.github.benmanes.caffeine.cache.AsyncLoadingCache;
+import my.finances.api.TransactionAsyncApiService;
+import my.finances.api.impl.TransactionAsyncApiServiceImpl;
+import my.finances.model.CursorPageModel;
+import my.finances.model.TransactionDetailsModel;
+import my.finances.model.TransactionModel;
+import org.springframework.context.annotation.Primary;
+import org.springframework.stereotype.Service;
+
+import java.util.Collection;
+import java.util.List;
+import java.util.Optional;
+import java.util.concurrent.CompletableFuture;
+
+@Service
+@Primary
+public class CachingTransactionAsyncApiService implements TransactionAsyncApiService {
+
+    private final AsyncLoadingCache<Boolean, Collection<TransactionModel>> transactions;
+    private final AsyncLoadingCache<Long, TransactionDetailsModel> transactionDetails;
+    private final PageCache<TransactionModel> transactionPages;
+    private final AsyncLoadingCache<Integer, List<TransactionModel>> recentTransactions;
+
+    public CachingTransactionAsyncApiService(TransactionAsyncApiServiceImpl delegate, ApiCaches apiCaches) {
+        this.transactions = apiCaches.create(ApiCaches.TRANSACTIONS, (key, executor) -> delegate.findAll());
+        this.transactionDetails = apiCaches.create(ApiCaches.TRANSACTION_DETAILS,
+                (id, executor) -> delegate.findById(id).thenApply(transaction -> transaction.orElse(null)));
+        this.transactionPages = new PageCache<>(apiCaches, ApiCaches.TRANSACTION_PAGES, delegate::findPage);
+        this.recentTransactions = apiCaches.create(ApiCaches.RECENT_TRANSACTIONS,
+                (limit, executor) -> delegate.findRecent(limit));
+    }
+
+    @Override
+    public CompletableFuture<Optional<TransactionDetailsModel>> findById(Long id) {
+        return transactionDetails.get(id).thenApply(Optional::ofNullable);
+    }
+
+    @Override
+    public CompletableFuture<Collection<TransactionModel>> findAll() {
+        return transactions.get(Boolean.TRUE);
+    }
+
+    @Override
+    public CompletableFuture<Optional<CursorPageModel<TransactionModel>>> findPage(String after, String before,
+                                                                                   int limit) {
+        return transactionPages.get(after, before, limit);
+    }
+
+    @Override
+    public CompletableFuture<List<TransactionModel>> findRecent(int limit) {
+        return recentTransactions.get(limit);
+    }
+}
@@ -0,0 +1,55 @@
+package my.finances.api.cache;
+
+import my.finances.api.UserApiService;
+import my.finances.api.UserAsyncApiService;
+import my.finances.api.impl.UserApiServiceImpl;
+import my.finances.model.AccountPostModel;
+import my.finances.model.UserDetailsModel;
+import my.finances.model.UserModel;
+import my.finances.model.UserWithAccNumberModel;
+import org.springframework.context.annotation.Primary;
+import org.springframework.stereotype.Service;
+
+import java.util.Collection;
+import java.util.Optional;
+
+@Service
+@Primary
+public class CachingUserApiService implements UserApiService {
+
+    private final UserApiServiceImpl delegate;
+    private final UserAsyncApiService userAsyncApiService;
+    private final ApiCaches apiCaches;
+
+    public CachingUserApiService(UserApiServiceImpl delegate, UserAsyncApiService userAsyncApiService,
+                                 ApiCaches apiCaches) {
+        this.delegate = delegate;
+        this.userAsyncApiService = userAsyncApiService;
+        this.apiCaches = apiCaches;
+    }
+
+    @Override
+    public Boolean createAccount(AccountPostModel account, Long id) {
+        Boolean created = delegate.createAccount(account, id);
+        apiCaches.invalidate(ApiCaches.USER_DETAILS, id);
+        apiCaches.invalidateAll(ApiCaches.USERS, ApiCaches.USER_PAGES, ApiCaches.ACCOUNTS, ApiCaches.ACCOUNT_PAGES);
+        return created;
+    }
+
+    @Override
+    public Boolean create(UserModel user) {
+        Boolean created = delegate.create(user);
+        apiCaches.invalidateAll(ApiCaches.USERS, ApiCaches.USER_PAGES);
+        return created;
+    }
+
+    @Override
+    public Optional<UserDetailsModel> findById(Long id) {
+        return userAsyncApiService.findById(id).join();
+    }
+
+    @Override
+    public Collection<UserWithAccNumberModel> findAll() {
+        return userAsyncApiService.findAll().join();
+    }
+}
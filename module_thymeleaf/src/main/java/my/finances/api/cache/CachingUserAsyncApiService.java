@@ -0,0 +1,46 @@
+package my.finances.api.cache;
+
+import com.github.benmanes.caffeine.cache.AsyncLoadingCache;
+import my.finances.api.UserAsyncApiService;
+import my.finances.api.impl.UserAsyncApiServiceImpl;
+import my.finances.model.CursorPageModel;
+import my.finances.model.UserDetailsModel;
+import my.finances.model.UserWithAccNumberModel;
+import org.springframework.context.annotation.Primary;
+import org.springframework.stereotype.Service;
+
+import java.util.Collection;
+import java.util.Optional;
+import java.util.concurrent.CompletableFuture;
+
+@Service
+@Primary
+public class CachingUserAsyncApiService implements UserAsyncApiService {
+
+    private final AsyncLoadingCache<Boolean, Collection<UserWithAccNumberModel>> users;
+    private final AsyncLoadingCache<Long, UserDetailsModel> userDetails;
+    private final PageCache<UserWithAccNumberModel> userPages;
+
+    public CachingUserAsyncApiService(UserAsyncApiServiceImpl delegate, ApiCaches apiCaches) {
+        this.users = apiCaches.create(ApiCaches.USERS, (key, executor) -> delegate.findAll());
+        this.userDetails = apiCaches.create(ApiCaches.USER_DETAILS,
+                (id, executor) -> delegate.findById(id).thenApply(user -> user.orElse(null)));
+        this.userPages = new PageCache<>(apiCaches, ApiCaches.USER_PAGES, delegate::findPage);
+    }
+
+    @Override
+    public CompletableFuture<Optional<UserDetailsModel>> findById(Long id) {
+        return userDetails.get(id).thenApply(Optional::ofNullable);
+    }
+
+    @Override
+    public CompletableFuture<Collection<UserWithAccNumberModel>> findAll() {
+        return users.get(Boolean.TRUE);
+    }
+
+    @Override
+    public CompletableFuture<Optional<CursorPageModel<UserWithAccNumberModel>>> findPage(String after, String before,
+                                                                                         int limit) {
+        return userPages.get(after, before, limit);
+    }
+}
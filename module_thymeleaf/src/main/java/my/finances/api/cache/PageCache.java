@@ -0,0 +1,37 @@
+package my.finances.api.cache;
+
+import com.github.benmanes.caffeine.cache.AsyncLoadingCache;
+import my.finances.model.CursorPageModel;
+
+import java.util.Optional;
+import java.util.concurrent.CompletableFuture;
+
+/**
+ * Caches the cursor pages of one backend listing. Serving a page also starts loading the page after it in the
+ * background, so following a "next" link is normally answered from memory.
+ */
+class PageCache<T> {
+
+    private final AsyncLoadingCache<PageKey, CursorPageModel<T>> pages;
+
+    PageCache(ApiCaches apiCaches, String name, PageLoader<T> loader) {
+        this.pages = apiCaches.create(name, (key, executor) -> loader.findPage(key.after(), key.before(), key.limit())
+                .thenApply(page -> page.orElse(null)));
+    }
+
+    CompletableFuture<Optional<CursorPageModel<T>>> get(String after, String before, int limit) {
+        return pages.get(new PageKey(after, before, limit)).thenApply(page -> {
+            if (page != null && page.getNext() != null) {
+                pages.get(new PageKey(page.getNext(), null, limit));
+            }
+            return Optional.ofNullable(page);
+        });
+    }
+
+    interface PageLoader<T> {
+        CompletableFuture<Optional<CursorPageModel<T>>> findPage(String after, String before, int limit);
+    }
+
+    private record PageKey(String after, String before, int limit) {
+    }
+}
@@ -1,42 +1,63 @@
 package my.finances.api.impl;
 
+import lombok.RequiredArgsConstructor;
 import my.finances.api.AccountApiService;
 import my.finances.model.AccountDetailsModel;
 import my.finances.model.AccountModel;
+import my.finances.model.CursorPageModel;
+import my.finances.model.TransactionModel;
 import org.springframework.beans.factory.annotation.Value;
+import org.springframework.core.ParameterizedTypeReference;
 import org.springframework.http.HttpMethod;
 import org.springframework.http.ResponseEntity;
 import org.springframework.stereotype.Service;
 import org.springframework.web.client.RestTemplate;
 
+import java.util.ArrayList;
 import java.util.Collection;
-import java.util.Collections;
 import java.util.List;
+import java.util.Map;
 import java.util.Optional;
 
 @Service
+@RequiredArgsConstructor
 public class AccountApiServiceImpl implements AccountApiService {
     @Value("${finance.backend.api.url}")
     private String apiUrl;
 
+    private final RestTemplate restTemplate;
+
     @Override
     public Optional<AccountDetailsModel> findById(Long id) {
-        RestTemplate restTemplate = new RestTemplate();
         try {
-            ResponseEntity<AccountDetailsModel> responseEntity = restTemplate.exchange(
-                    apiUrl + "/accounts/" + id,
-                    HttpMethod.GET,
-                    null,
-                    AccountDetailsModel.class
-            );
+            AccountDetailsModel accountDetailsModel = null;
+            List<TransactionModel> transactionModels = new ArrayList<>();
+            String after = null;
+            do {
+                Map<String, Object> variables = CursorPageModel.variables(after);
+                variables.put("id", id);
+                ResponseEntity<AccountDetailsModel> responseEntity = restTemplate.exchange(
+                        apiUrl + "/accounts/{id}" + CursorPageModel.query(after),
+                        HttpMethod.GET,
+                        null,
+                        AccountDetailsModel.class,
+                        variables
+                );
 
-            if (responseEntity.getStatusCode().is2xxSuccessful()) {
-                AccountDetailsModel accountDetailsModel = responseEntity.getBody();
-                if (accountDetailsModel != null) {
-                    return Optional.of(accountDetailsModel);
+                AccountDetailsModel page = responseEntity.getBody();
+                if (!responseEntity.getStatusCode().is2xxSuccessful() || page == null) {
+                    return Optional.empty();
                 }
-            }
-            return Optional.empty();
+                if (accountDetailsModel == null) {
+                    accountDetailsModel = page;
+                }
+                transactionModels.addAll(page.getTransactions());
+                after = page.getNext();
+            } while (after != null);
+
+            accountDetailsModel.setTransactions(transactionModels);
+            accountDetailsModel.setNext(null);
+            return Optional.of(accountDetailsModel);
         } catch (Exception e) {
             return Optional.empty();
         }
@@ -44,21 +65,25 @@ public class AccountApiServiceImpl implements AccountApiService {
 
     @Override
     public Collection<AccountModel> findAll() {
-        RestTemplate restTemplate = new RestTemplate();
-        ResponseEntity<AccountModel[]> responseEntity = restTemplate.exchange(
-                apiUrl + "/accounts",
-                HttpMethod.GET,
-                null,
-                AccountModel[].class
-        );
+        List<AccountModel> accountModels = new ArrayList<>();
+        String after = null;
+        do {
+            ResponseEntity<CursorPageModel<AccountModel>> responseEntity = restTemplate.exchange(
+                    apiUrl + "/accounts" + CursorPageModel.query(after),
+                    HttpMethod.GET,
+                    null,
+                    new ParameterizedTypeReference<CursorPageModel<AccountModel>>() {},
+                    CursorPageModel.variables(after)
+            );
 
-        if (responseEntity.getStatusCode().is2xxSuccessful()) {
-            AccountModel[] accountModels = responseEntity.getBody();
-            if (accountModels != null) {
-                return List.of(accountModels);
+            CursorPageModel<AccountModel> page = responseEntity.getBody();
+            if (!responseEntity.getStatusCode().is2xxSuccessful() || page == null) {
+                break;
             }
-        }
+            accountModels.addAll(page.getItems());
+            after = page.getNext();
+        } while (after != null);
 
-        return Collections.emptyList();
+        return accountModels;
     }
 }
@@ -0,0 +1,87 @@
+package my.finances.api.impl;
+
+import lombok.RequiredArgsConstructor;
+import my.finances.api.AccountAsyncApiService;
+import my.finances.model.AccountDetailsModel;
+import my.finances.model.AccountModel;
+import my.finances.model.CursorPageModel;
+import my.finances.model.TransactionModel;
+import org.springframework.core.ParameterizedTypeReference;
+import org.springframework.stereotype.Service;
+import org.springframework.web.reactive.function.client.WebClient;
+import org.springframework.web.reactive.function.client.WebClientResponseException;
+import reactor.core.publisher.Mono;
+
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.List;
+import java.util.Map;
+import java.util.Optional;
+import java.util.concurrent.CompletableFuture;
+
+@Service
+@RequiredArgsConstructor
+public class AccountAsyncApiServiceImpl implements AccountAsyncApiService {
+
+    private final WebClient backendWebClient;
+
+    @Override
+    public CompletableFuture<Optional<AccountDetailsModel>> findById(Long id) {
+        return details(id, null)
+                .expand(page -> page.getNext() != null ? details(id, page.getNext()) : Mono.empty())
+                .collectList()
+                .map(pages -> {
+                    if (pages.isEmpty()) {
+                        return Optional.<AccountDetailsModel>empty();
+                    }
+                    List<TransactionModel> transactionModels = new ArrayList<>();
+                    pages.forEach(page -> transactionModels.addAll(page.getTransactions()));
+                    AccountDetailsModel accountDetailsModel = pages.get(0);
+                    accountDetailsModel.setTransactions(transactionModels);
+                    accountDetailsModel.setNext(null);
+                    return Optional.of(accountDetailsModel);
+                })
+                .onErrorResume(WebClientResponseException.NotFound.class, e -> Mono.just(Optional.empty()))
+                .toFuture();
+    }
+
+    @Override
+    public CompletableFuture<Collection<AccountModel>> findAll() {
+        return page(null)
+                .expand(page -> page.getNext() != null ? page(page.getNext()) : Mono.empty())
+                .concatMapIterable(CursorPageModel::getItems)
+                .collectList()
+                .<Collection<AccountModel>>map(accounts -> accounts)
+                .toFuture();
+    }
+
+    private Mono<AccountDetailsModel> details(Long id, String after) {
+        Map<String, Object> variables = CursorPageModel.variables(after);
+        variables.put("id", id);
+        return backendWebClient.get()
+                .uri("/accounts/{id}" + CursorPageModel.query(after), variables)
+                .retrieve()
+                .bodyToMono(AccountDetailsModel.class);
+    }
+
+    @Override
+    public CompletableFuture<Optional<CursorPageModel<AccountModel>>> findPage(String after, String before,
+                                                                               int limit) {
+        return backendWebClient.get()
+                .uri("/accounts" + CursorPageModel.query(after, before),
+                        CursorPageModel.variables(after, before, limit))
+                .retrieve()
+                .bodyToMono(new ParameterizedTypeReference<CursorPageModel<AccountModel>>() {})
+                .map(Optional::of)
+                .onErrorResume(WebClientResponseException.BadRequest.class, e -> Mono.just(Optional.empty()))
+                .defaultIfEmpty(Optional.empty())
+                .toFuture();
+    }
+
+    private Mono<CursorPageModel<AccountModel>> page(String after) {
+        return backendWebClient.get()
+                .uri("/accounts" + CursorPageModel.query(after), CursorPageModel.variables(after))
+                .retrieve()
+                .bodyToMono(new ParameterizedTypeReference<CursorPageModel<AccountModel>>() {});
+    }
+}
@@ -1,62 +1,95 @@
 package my.finances.api.impl;
 
+import lombok.RequiredArgsConstructor;
 import my.finances.api.TransactionApiService;
+import my.finances.model.CursorPageIterable;
 import my.finances.model.TransactionDetailsModel;
 import my.finances.model.TransactionModel;
 import my.finances.model.TransactionPostModel;
+import my.finances.model.CursorPageModel;
+import my.finances.model.ExportJobModel;
 import org.springframework.beans.factory.annotation.Value;
+import org.springframework.core.ParameterizedTypeReference;
 import org.springframework.http.HttpMethod;
 import org.springframework.http.ResponseEntity;
 import org.springframework.stereotype.Service;
 import org.springframework.web.client.RestTemplate;
 
+import java.io.OutputStream;
+import java.util.ArrayList;
 import java.util.Collection;
-import java.util.Collections;
 import java.util.List;
 import java.util.Optional;
 
 @Service
+@RequiredArgsConstructor
 public class TransactionApiServiceImpl implements TransactionApiService {
     @Value("${finance.backend.api.url}")
     private String apiUrl;
 
+    private final RestTemplate restTemplate;
+
+    @Override
+    public Optional<ExportJobModel> exportByAccId(long id) {
+        return exportJobRequest("/transactions/export/" + id, HttpMethod.POST);
+    }
+
+    @Override
+    public Optional<ExportJobModel> exportAll() {
+        return exportJobRequest("/transactions/export", HttpMethod.POST);
+    }
+
+    @Override
+    public Optional<ExportJobModel> findExport(String jobId) {
+        return exportJobRequest("/transactions/export/jobs/" + jobId, HttpMethod.GET);
+    }
+
     @Override
-    public void exportByAccId(long id) {
-        RestTemplate restTemplate = new RestTemplate();
+    public Optional<ExportJobModel> cancelExport(String jobId) {
+        return exportJobRequest("/transactions/export/jobs/" + jobId, HttpMethod.DELETE);
+    }
+
+    @Override
+    public boolean downloadExport(String jobId, OutputStream out) {
         try {
-            ResponseEntity<Boolean> responseEntity = restTemplate.exchange(
-                    apiUrl + "/transactions/export/" + id,
-                    HttpMethod.POST,
+            Boolean copied = restTemplate.execute(
+                    apiUrl + "/transactions/export/jobs/" + jobId + "/file",
+                    HttpMethod.GET,
                     null,
-                    Boolean.class
+                    response -> {
+                        response.getBody().transferTo(out);
+                        return true;
+                    }
             );
-            if (responseEntity.getStatusCode().is2xxSuccessful()) {
-                responseEntity.getBody();
-            }
+            return Boolean.TRUE.equals(copied);
         } catch (Exception e) {
+            return false;
         }
     }
 
-    @Override
-    public void exportAll() {
-        RestTemplate restTemplate = new RestTemplate();
+    private Optional<ExportJobModel> exportJobRequest(String path, HttpMethod method) {
         try {
-            ResponseEntity<Boolean> responseEntity = restTemplate.exchange(
-                    apiUrl + "/transactions/export",
-                    HttpMethod.POST,
+            ResponseEntity<ExportJobModel> responseEntity = restTemplate.exchange(
+                    apiUrl + path,
+                    method,
                     null,
-                    Boolean.class
+                    ExportJobModel.class
             );
+
             if (responseEntity.getStatusCode().is2xxSuccessful()) {
-                responseEntity.getBody();
+                ExportJobModel exportJobModel = responseEntity.getBody();
+                if (exportJobModel != null) {
+                    return Optional.of(exportJobModel);
+                }
             }
+            return Optional.empty();
         } catch (Exception e) {
+            return Optional.empty();
         }
     }
 
     @Override
     public Boolean create(TransactionPostModel transaction) {
-        RestTemplate restTemplate = new RestTemplate();
         try {
             ResponseEntity<Boolean> responseEntity = restTemplate.exchange(
                     apiUrl + "/transactions",
@@ -75,7 +108,6 @@ public class TransactionApiServiceImpl implements TransactionApiService {
 
     @Override
     public Optional<TransactionDetailsModel> findById(Long id) {
-        RestTemplate restTemplate = new RestTemplate();
         try {
             ResponseEntity<TransactionDetailsModel> responseEntity = restTemplate.exchange(
                     apiUrl + "/transactions/" + id,
@@ -98,21 +130,33 @@ public class TransactionApiServiceImpl implements TransactionApiService {
 
     @Override
     public Collection<TransactionModel> findAll() {
-        RestTemplate restTemplate = new RestTemplate();
-        ResponseEntity<TransactionModel[]> responseEntity = restTemplate.exchange(
-                apiUrl + "/transactions",
+        List<TransactionModel> transactionModels = new ArrayList<>();
+        String after = null;
+        do {
+            CursorPageModel<TransactionModel> page = findPage(after);
+            if (page == null) {
+                break;
+            }
+            transactionModels.addAll(page.getItems());
+            after = page.getNext();
+        } while (after != null);
+
+        return transactionModels;
+    }
+
+    @Override
+    public CursorPageIterable<TransactionModel> stream() {
+        return new CursorPageIterable<>(this::findPage);
+    }
+
+    private CursorPageModel<TransactionModel> findPage(String after) {
+        ResponseEntity<CursorPageModel<TransactionModel>> responseEntity = restTemplate.exchange(
+                apiUrl + "/transactions" + CursorPageModel.query(after),
                 HttpMethod.GET,
                 null,
-                TransactionModel[].class
+                new ParameterizedTypeReference<CursorPageModel<TransactionModel>>() {},
+                CursorPageModel.variables(after)
         );
-
-        if (responseEntity.getStatusCode().is2xxSuccessful()) {
-            TransactionModel[] transactionModels = responseEntity.getBody();
-            if (transactionModels != null) {
-                return List.of(transactionModels);
-            }
-        }
-
-        return Collections.emptyList();
+        return responseEntity.getStatusCode().is2xxSuccessful() ? responseEntity.getBody() : null;
     }
 }
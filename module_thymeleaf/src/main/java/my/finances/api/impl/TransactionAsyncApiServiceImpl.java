@@ -0,0 +1,76 @@
+package my.finances.api.impl;
+
+import lombok.RequiredArgsConstructor;
+import my.finances.api.TransactionAsyncApiService;
+import my.finances.model.CursorPageModel;
+import my.finances.model.TransactionDetailsModel;
+import my.finances.model.TransactionModel;
+import org.springframework.core.ParameterizedTypeReference;
+import org.springframework.stereotype.Service;
+import org.springframework.web.reactive.function.client.WebClient;
+import org.springframework.web.reactive.function.client.WebClientResponseException;
+import reactor.core.publisher.Mono;
+
+import java.util.Collection;
+import java.util.List;
+import java.util.Optional;
+import java.util.concurrent.CompletableFuture;
+
+@Service
+@RequiredArgsConstructor
+public class TransactionAsyncApiServiceImpl implements TransactionAsyncApiService {
+
+    private final WebClient backendWebClient;
+
+    @Override
+    public CompletableFuture<Optional<TransactionDetailsModel>> findById(Long id) {
+        return backendWebClient.get()
+                .uri("/transactions/{id}", id)
+                .retrieve()
+                .bodyToMono(TransactionDetailsModel.class)
+                .map(Optional::of)
+                .onErrorResume(WebClientResponseException.NotFound.class, e -> Mono.just(Optional.empty()))
+                .defaultIfEmpty(Optional.empty())
+                .toFuture();
+    }
+
+    @Override
+    public CompletableFuture<Collection<TransactionModel>> findAll() {
+        return page(null)
+                .expand(page -> page.getNext() != null ? page(page.getNext()) : Mono.empty())
+                .concatMapIterable(CursorPageModel::getItems)
+                .collectList()
+                .<Collection<TransactionModel>>map(transactions -> transactions)
+                .toFuture();
+    }
+
+    @Override
+    public CompletableFuture<List<TransactionModel>> findRecent(int limit) {
+        return backendWebClient.get()
+                .uri("/transactions/recent?limit={limit}", limit)
+                .retrieve()
+                .bodyToMono(new ParameterizedTypeReference<List<TransactionModel>>() {})
+                .toFuture();
+    }
+
+    @Override
+    public CompletableFuture<Optional<CursorPageModel<TransactionModel>>> findPage(String after, String before,
+                                                                                   int limit) {
+        return backendWebClient.get()
+                .uri("/transactions" + CursorPageModel.query(after, before),
+                        CursorPageModel.variables(after, before, limit))
+                .retrieve()
+                .bodyToMono(new ParameterizedTypeReference<CursorPageModel<TransactionModel>>() {})
+                .map(Optional::of)
+                .onErrorResume(WebClientResponseException.BadRequest.class, e -> Mono.just(Optional.empty()))
+                .defaultIfEmpty(Optional.empty())
+                .toFuture();
+    }
+
+    private Mono<CursorPageModel<TransactionModel>> page(String after) {
+        return backendWebClient.get()
+                .uri("/transactions" + CursorPageModel.query(after), CursorPageModel.variables(after))
+                .retrieve()
+                .bodyToMono(new ParameterizedTypeReference<CursorPageModel<TransactionModel>>() {});
+    }
+}
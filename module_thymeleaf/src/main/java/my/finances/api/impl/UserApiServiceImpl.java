@@ -1,29 +1,34 @@
 package my.finances.api.impl;
 
+import lombok.RequiredArgsConstructor;
 import my.finances.api.UserApiService;
 import my.finances.model.AccountPostModel;
 import my.finances.model.UserDetailsModel;
 import my.finances.model.UserModel;
 import my.finances.model.UserWithAccNumberModel;
+import my.finances.model.CursorPageModel;
 import org.springframework.beans.factory.annotation.Value;
+import org.springframework.core.ParameterizedTypeReference;
 import org.springframework.http.HttpMethod;
 import org.springframework.http.ResponseEntity;
 import org.springframework.stereotype.Service;
 import org.springframework.web.client.RestTemplate;
 
+import java.util.ArrayList;
 import java.util.Collection;
-import java.util.Collections;
 import java.util.List;
 import java.util.Optional;
 
 @Service
+@RequiredArgsConstructor
 public class UserApiServiceImpl implements UserApiService {
     @Value("${finance.backend.api.url}")
     private String apiUrl;
 
+    private final RestTemplate restTemplate;
+
     @Override
     public Boolean create(UserModel user) {
-        RestTemplate restTemplate = new RestTemplate();
         try {
             ResponseEntity<Boolean> responseEntity = restTemplate.exchange(
                     apiUrl + "/users",
@@ -42,7 +47,6 @@ public class UserApiServiceImpl implements UserApiService {
 
     @Override
     public Boolean createAccount(AccountPostModel account, Long id) {
-        RestTemplate restTemplate = new RestTemplate();
         try {
             ResponseEntity<Boolean> responseEntity = restTemplate.exchange(
                     apiUrl + "/users/" + id,
@@ -61,7 +65,6 @@ public class UserApiServiceImpl implements UserApiService {
 
     @Override
     public Optional<UserDetailsModel> findById(Long id) {
-        RestTemplate restTemplate = new RestTemplate();
         try {
             ResponseEntity<UserDetailsModel> responseEntity = restTemplate.exchange(
                     apiUrl + "/users/" + id,
@@ -84,21 +87,25 @@ public class UserApiServiceImpl implements UserApiService {
 
     @Override
     public Collection<UserWithAccNumberModel> findAll() {
-        RestTemplate restTemplate = new RestTemplate();
-        ResponseEntity<UserWithAccNumberModel[]> responseEntity = restTemplate.exchange(
-                apiUrl + "/users",
-                HttpMethod.GET,
-                null,
-                UserWithAccNumberModel[].class
-        );
+        List<UserWithAccNumberModel> userModels = new ArrayList<>();
+        String after = null;
+        do {
+            ResponseEntity<CursorPageModel<UserWithAccNumberModel>> responseEntity = restTemplate.exchange(
+                    apiUrl + "/users" + CursorPageModel.query(after),
+                    HttpMethod.GET,
+                    null,
+                    new ParameterizedTypeReference<CursorPageModel<UserWithAccNumberModel>>() {},
+                    CursorPageModel.variables(after)
+            );
 
-        if (responseEntity.getStatusCode().is2xxSuccessful()) {
-            UserWithAccNumberModel[] userModels = responseEntity.getBody();
-            if (userModels != null) {
-                return List.of(userModels);
+            CursorPageModel<UserWithAccNumberModel> page = responseEntity.getBody();
+            if (!responseEntity.getStatusCode().is2xxSuccessful() || page == null) {
+                break;
             }
-        }
+            userModels.addAll(page.getItems());
+            after = page.getNext();
+        } while (after != null);
 
-        return Collections.emptyList();
+        return userModels;
     }
 }
@@ -0,0 +1,66 @@
+package my.finances.api.impl;
+
+import lombok.RequiredArgsConstructor;
+import my.finances.api.UserAsyncApiService;
+import my.finances.model.CursorPageModel;
+import my.finances.model.UserDetailsModel;
+import my.finances.model.UserWithAccNumberModel;
+import org.springframework.core.ParameterizedTypeReference;
+import org.springframework.stereotype.Service;
+import org.springframework.web.reactive.function.client.WebClient;
+import org.springframework.web.reactive.function.client.WebClientResponseException;
+import reactor.core.publisher.Mono;
+
+import java.util.Collection;
+import java.util.Optional;
+import java.util.concurrent.CompletableFuture;
+
+@Service
+@RequiredArgsConstructor
+public class UserAsyncApiServiceImpl implements UserAsyncApiService {
+
+    private final WebClient backendWebClient;
+
+    @Override
+    public CompletableFuture<Optional<UserDetailsModel>> findById(Long id) {
+        return backendWebClient.get()
+                .uri("/users/{id}", id)
+                .retrieve()
+                .bodyToMono(UserDetailsModel.class)
+                .map(Optional::of)
+                .onErrorResume(WebClientResponseException.NotFound.class, e -> Mono.just(Optional.empty()))
+                .defaultIfEmpty(Optional.empty())
+                .toFuture();
+    }
+
+    @Override
+    public CompletableFuture<Collection<UserWithAccNumberModel>> findAll() {
+        return page(null)
+                .expand(page -> page.getNext() != null ? page(page.getNext()) : Mono.empty())
+                .concatMapIterable(CursorPageModel::getItems)
+                .collectList()
+                .<Collection<UserWithAccNumberModel>>map(users -> users)
+                .toFuture();
+    }
+
+    @Override
+    public CompletableFuture<Optional<CursorPageModel<UserWithAccNumberModel>>> findPage(String after, String before,
+                                                                                         int limit) {
+        return backendWebClient.get()
+                .uri("/users" + CursorPageModel.query(after, before),
+                        CursorPageModel.variables(after, before, limit))
+                .retrieve()
+                .bodyToMono(new ParameterizedTypeReference<CursorPageModel<UserWithAccNumberModel>>() {})
+                .map(Optional::of)
+                .onErrorResume(WebClientResponseException.BadRequest.class, e -> Mono.just(Optional.empty()))
+                .defaultIfEmpty(Optional.empty())
+                .toFuture();
+    }
+
+    private Mono<CursorPageModel<UserWithAccNumberModel>> page(String after) {
+        return backendWebClient.get()
+                .uri("/users" + CursorPageModel.query(after), CursorPageModel.variables(after))
+                .retrieve()
+                .bodyToMono(new ParameterizedTypeReference<CursorPageModel<UserWithAccNumberModel>>() {});
+    }
+}
@@ -0,0 +1,101 @@
+package my.finances.config;
+
+import io.netty.channel.ChannelOption;
+import org.apache.hc.client5.http.config.RequestConfig;
+import org.apache.hc.client5.http.impl.classic.CloseableHttpClient;
+import org.apache.hc.client5.http.impl.classic.HttpClients;
+import org.apache.hc.client5.http.impl.io.PoolingHttpClientConnectionManager;
+import org.apache.hc.client5.http.impl.io.PoolingHttpClientConnectionManagerBuilder;
+import org.apache.hc.core5.http.io.SocketConfig;
+import org.apache.hc.core5.util.TimeValue;
+import org.apache.hc.core5.util.Timeout;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.web.client.RestTemplateBuilder;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+import org.springframework.http.client.HttpComponentsClientHttpRequestFactory;
+import org.springframework.http.client.reactive.ReactorClientHttpConnector;
+import org.springframework.util.unit.DataSize;
+import org.springframework.web.client.RestTemplate;
+import org.springframework.web.reactive.function.client.WebClient;
+import reactor.netty.http.client.HttpClient;
+import reactor.netty.resources.ConnectionProvider;
+
+import java.time.Duration;
+
+@Configuration
+public class RestClientConfig {
+
+    @Bean(destroyMethod = "close")
+    public PoolingHttpClientConnectionManager backendConnectionManager(
+            @Value("${finance.backend.http.max-connections:200}") int maxConnections,
+            @Value("${finance.backend.http.max-connections-per-route:100}") int maxConnectionsPerRoute,
+            @Value("${finance.backend.http.read-timeout:30s}") Duration readTimeout) {
+        return PoolingHttpClientConnectionManagerBuilder.create()
+                .setMaxConnTotal(maxConnections)
+                .setMaxConnPerRoute(maxConnectionsPerRoute)
+                .setDefaultSocketConfig(SocketConfig.custom()
+                        .setSoTimeout(Timeout.ofMilliseconds(readTimeout.toMillis()))
+                        .setTcpNoDelay(true)
+                        .build())
+                .setValidateAfterInactivity(TimeValue.ofSeconds(2))
+                .build();
+    }
+
+    @Bean(destroyMethod = "close")
+    public CloseableHttpClient backendHttpClient(
+            PoolingHttpClientConnectionManager backendConnectionManager,
+            @Value("${finance.backend.http.connect-timeout:2s}") Duration connectTimeout,
+            @Value("${finance.backend.http.read-timeout:30s}") Duration readTimeout,
+            @Value("${finance.backend.http.connection-request-timeout:2s}") Duration connectionRequestTimeout,
+            @Value("${finance.backend.http.idle-timeout:30s}") Duration idleTimeout) {
+        return HttpClients.custom()
+                .setConnectionManager(backendConnectionManager)
+                .setDefaultRequestConfig(RequestConfig.custom()
+                        .setConnectTimeout(Timeout.ofMilliseconds(connectTimeout.toMillis()))
+                        .setResponseTimeout(Timeout.ofMilliseconds(readTimeout.toMillis()))
+                        .setConnectionRequestTimeout(Timeout.ofMilliseconds(connectionRequestTimeout.toMillis()))
+                        .build())
+                .evictExpiredConnections()
+                .evictIdleConnections(TimeValue.ofMilliseconds(idleTimeout.toMillis()))
+                .build();
+    }
+
+    @Bean
+    public RestTemplate restTemplate(RestTemplateBuilder builder, CloseableHttpClient backendHttpClient) {
+        return builder
+                .requestFactory(() -> new HttpComponentsClientHttpRequestFactory(backendHttpClient))
+                .build();
+    }
+
+    @Bean(destroyMethod = "dispose")
+    public ConnectionProvider backendConnectionProvider(
+            @Value("${finance.backend.http.max-connections:200}") int maxConnections,
+            @Value("${finance.backend.http.connection-request-timeout:2s}") Duration connectionRequestTimeout,
+            @Value("${finance.backend.http.idle-timeout:30s}") Duration idleTimeout) {
+        return ConnectionProvider.builder("backend")
+                .maxConnections(maxConnections)
+                .pendingAcquireTimeout(connectionRequestTimeout)
+                .maxIdleTime(idleTimeout)
+                .metrics(true)
+                .build();
+    }
+
+    @Bean
+    public WebClient backendWebClient(
+            WebClient.Builder builder,
+            ConnectionProvider backendConnectionProvider,
+            @Value("${finance.backend.api.url}") String apiUrl,
+            @Value("${finance.backend.http.connect-timeout:2s}") Duration connectTimeout,
+            @Value("${finance.backend.http.read-timeout:30s}") Duration readTimeout,
+            @Value("${finance.backend.http.max-response-size:16MB}") DataSize maxResponseSize) {
+        HttpClient httpClient = HttpClient.create(backendConnectionProvider)
+                .option(ChannelOption.CONNECT_TIMEOUT_MILLIS, (int) connectTimeout.toMillis())
+                .responseTimeout(readTimeout);
+        return builder
+                .baseUrl(apiUrl)
+                .clientConnector(new ReactorClientHttpConnector(httpClient))
+                .codecs(codecs -> codecs.defaultCodecs().maxInMemorySize((int) maxResponseSize.toBytes()))
+                .build();
+    }
+}
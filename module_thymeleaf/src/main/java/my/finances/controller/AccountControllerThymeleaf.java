@@ -1,30 +1,44 @@
 package my.finances.controller;
 
 import lombok.AllArgsConstructor;
-import my.finances.api.AccountApiService;
+import my.finances.api.AccountAsyncApiService;
+import my.finances.model.CursorPageModel;
 import org.springframework.stereotype.Controller;
 import org.springframework.ui.Model;
 import org.springframework.web.bind.annotation.*;
 
+import java.util.concurrent.CompletableFuture;
+
 @Controller
 @AllArgsConstructor
 @RequestMapping("/accounts")
 public class AccountControllerThymeleaf {
 
-    private final AccountApiService accountApiService;
+    private final AccountAsyncApiService accountAsyncApiService;
 
     @GetMapping
-    public String findAll(Model model) {
-        model.addAttribute("accounts", accountApiService.findAll());
-        return "elp/accounts";
+    public CompletableFuture<String> findAll(@RequestParam(required = false) String after,
+                                             @RequestParam(required = false) String before,
+                                             @RequestParam(defaultValue = "${finance.ui.page-size:50}") int size,
+                                             Model model) {
+        int limit = CursorPageModel.limit(size);
+        return accountAsyncApiService.findPage(after, before, limit).thenApply(found -> found
+                .map(page -> {
+                    model.addAttribute("accounts", page.getItems());
+                    model.addAttribute("page", page);
+                    model.addAttribute("size", limit);
+                    return "elp/accounts";
+                })
+                .orElse("400"));
     }
 
     @GetMapping("/{id}")
-    public String findById(@PathVariable Long id, Model model) {
-        if (accountApiService.findById(id).isPresent()) {
-            model.addAttribute("account", accountApiService.findById(id).get());
-            return "edp/account_details";
-        }
-        return "404";
+    public CompletableFuture<String> findById(@PathVariable Long id, Model model) {
+        return accountAsyncApiService.findById(id).thenApply(details -> details
+                .map(found -> {
+                    model.addAttribute("account", found);
+                    return "edp/account_details";
+                })
+                .orElse("404"));
     }
 }
\ No newline at end of file
@@ -0,0 +1,56 @@
+package my.finances.controller;
+
+import my.finances.api.AccountAsyncApiService;
+import my.finances.api.TransactionAsyncApiService;
+import my.finances.api.UserAsyncApiService;
+import my.finances.model.AccountModel;
+import my.finances.model.CursorPageModel;
+import my.finances.model.TransactionModel;
+import my.finances.model.UserWithAccNumberModel;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Controller;
+import org.springframework.ui.Model;
+import org.springframework.web.bind.annotation.GetMapping;
+import org.springframework.web.bind.annotation.RequestMapping;
+
+import java.util.List;
+import java.util.Optional;
+import java.util.concurrent.CompletableFuture;
+
+@Controller
+@RequestMapping("/dashboard")
+public class DashboardControllerThymeleaf {
+
+    private final UserAsyncApiService userAsyncApiService;
+    private final AccountAsyncApiService accountAsyncApiService;
+    private final TransactionAsyncApiService transactionAsyncApiService;
+    private final int recentTransactions;
+    private final int previewRows;
+
+    public DashboardControllerThymeleaf(UserAsyncApiService userAsyncApiService,
+                                        AccountAsyncApiService accountAsyncApiService,
+                                        TransactionAsyncApiService transactionAsyncApiService,
+                                        @Value("${finance.ui.dashboard.recent-transactions:20}") int recentTransactions,
+                                        @Value("${finance.ui.dashboard.preview-rows:10}") int previewRows) {
+        this.userAsyncApiService = userAsyncApiService;
+        this.accountAsyncApiService = accountAsyncApiService;
+        this.transactionAsyncApiService = transactionAsyncApiService;
+        this.recentTransactions = recentTransactions;
+        this.previewRows = CursorPageModel.limit(previewRows);
+    }
+
+    @GetMapping
+    public CompletableFuture<String> dashboard(Model model) {
+        CompletableFuture<Optional<CursorPageModel<UserWithAccNumberModel>>> users =
+                userAsyncApiService.findPage(null, null, previewRows);
+        CompletableFuture<Optional<CursorPageModel<AccountModel>>> accounts =
+                accountAsyncApiService.findPage(null, null, previewRows);
+        CompletableFuture<List<TransactionModel>> transactions = transactionAsyncApiService.findRecent(recentTransactions);
+        return CompletableFuture.allOf(users, accounts, transactions).thenApply(done -> {
+            model.addAttribute("users", users.join().map(CursorPageModel::getItems).orElse(List.of()));
+            model.addAttribute("accounts", accounts.join().map(CursorPageModel::getItems).orElse(List.of()));
+            model.addAttribute("transactions", transactions.join());
+            return "dashboard";
+        });
+    }
+}
@@ -1,28 +1,74 @@
 package my.finances.controller;
 
-import lombok.AllArgsConstructor;
+import jakarta.servlet.http.HttpServletResponse;
 import my.finances.api.TransactionApiService;
+import my.finances.api.TransactionAsyncApiService;
+import my.finances.model.CursorPageIterable;
+import my.finances.model.CursorPageModel;
+import my.finances.model.TransactionModel;
 import my.finances.model.TransactionPostModel;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.http.HttpHeaders;
 import org.springframework.stereotype.Controller;
 import org.springframework.ui.Model;
 import org.springframework.web.bind.annotation.*;
 
+import java.io.IOException;
+import java.util.concurrent.CompletableFuture;
+
 @Controller
-@AllArgsConstructor
 @RequestMapping("/transactions")
 public class TransactionControllerThymeleaf {
     private final TransactionApiService transactionApiService;
+    private final TransactionAsyncApiService transactionAsyncApiService;
+    private final boolean streaming;
+
+    public TransactionControllerThymeleaf(TransactionApiService transactionApiService,
+                                          TransactionAsyncApiService transactionAsyncApiService,
+                                          @Value("${finance.ui.transactions.streaming:true}") boolean streaming) {
+        this.transactionApiService = transactionApiService;
+        this.transactionAsyncApiService = transactionAsyncApiService;
+        this.streaming = streaming;
+    }
 
     @GetMapping("/export/{id}")
     public String exportByAccId(@PathVariable Long id) {
-        transactionApiService.exportByAccId(id);
-        return "export_done";
+        return transactionApiService.exportByAccId(id)
+                .map(job -> "redirect:/transactions/export/jobs/" + job.getJobId())
+                .orElse("400");
     }
 
     @GetMapping("/export")
     public String exportAll() {
-        transactionApiService.exportAll();
-        return "export_done";
+        return transactionApiService.exportAll()
+                .map(job -> "redirect:/transactions/export/jobs/" + job.getJobId())
+                .orElse("400");
+    }
+
+    @GetMapping("/export/jobs/{jobId}")
+    public String findExport(@PathVariable String jobId, Model model) {
+        return transactionApiService.findExport(jobId)
+                .map(job -> {
+                    model.addAttribute("job", job);
+                    return "export_progress";
+                })
+                .orElse("404");
+    }
+
+    @PostMapping("/export/jobs/{jobId}/cancel")
+    public String cancelExport(@PathVariable String jobId) {
+        transactionApiService.cancelExport(jobId);
+        return "redirect:/transactions/export/jobs/" + jobId;
+    }
+
+    @GetMapping("/export/jobs/{jobId}/file")
+    public void downloadExport(@PathVariable String jobId, HttpServletResponse response) throws IOException {
+        response.setContentType("text/csv");
+        response.setHeader(HttpHeaders.CONTENT_DISPOSITION, "attachment; filename=\"Transactions_" + jobId + ".csv\"");
+        if (!transactionApiService.downloadExport(jobId, response.getOutputStream()) && !response.isCommitted()) {
+            response.reset();
+            response.sendError(HttpServletResponse.SC_NOT_FOUND);
+        }
     }
 
     @GetMapping("/new")
@@ -40,17 +86,42 @@ public class TransactionControllerThymeleaf {
     }
 
     @GetMapping
-    public String findAll(Model model) {
-        model.addAttribute("transactions", transactionApiService.findAll());
-        return "elp/transactions";
+    public CompletableFuture<String> findAll(@RequestParam(required = false) String after,
+                                             @RequestParam(required = false) String before,
+                                             @RequestParam(defaultValue = "${finance.ui.page-size:50}") int size,
+                                             Model model) {
+        int limit = CursorPageModel.limit(size);
+        return transactionAsyncApiService.findPage(after, before, limit).thenApply(found -> found
+                .map(page -> {
+                    model.addAttribute("transactions", page.getItems());
+                    model.addAttribute("page", page);
+                    model.addAttribute("size", limit);
+                    return "elp/transactions";
+                })
+                .orElse("400"));
     }
 
-    @GetMapping("/{id}")
-    public String findById(@PathVariable Long id, Model model) {
-        if (transactionApiService.findById(id).isPresent()) {
-            model.addAttribute("transaction", transactionApiService.findById(id).get());
-            return "edp/transaction_details";
+    @GetMapping("/all")
+    public CompletableFuture<String> findAllRows(Model model) {
+        if (streaming) {
+            CursorPageIterable<TransactionModel> transactions = transactionApiService.stream();
+            model.addAttribute("transactions", transactions);
+            model.addAttribute("stream", transactions);
+            return CompletableFuture.completedFuture("elp/transactions");
         }
-        return "404";
+        return transactionAsyncApiService.findAll().thenApply(items -> {
+            model.addAttribute("transactions", items);
+            return "elp/transactions";
+        });
+    }
+
+    @GetMapping("/{id}")
+    public CompletableFuture<String> findById(@PathVariable Long id, Model model) {
+        return transactionAsyncApiService.findById(id).thenApply(details -> details
+                .map(found -> {
+                    model.addAttribute("transaction", found);
+                    return "edp/transaction_details";
+                })
+                .orElse("404"));
     }
 }
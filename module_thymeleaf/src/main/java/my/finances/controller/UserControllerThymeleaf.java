@@ -2,18 +2,23 @@ package my.finances.controller;
 
 import lombok.AllArgsConstructor;
 import my.finances.api.UserApiService;
+import my.finances.api.UserAsyncApiService;
 import my.finances.model.AccountPostModel;
+import my.finances.model.CursorPageModel;
 import my.finances.model.UserModel;
 import org.springframework.stereotype.Controller;
 import org.springframework.ui.Model;
 import org.springframework.web.bind.annotation.*;
 
+import java.util.concurrent.CompletableFuture;
+
 @Controller
 @AllArgsConstructor
 @RequestMapping("/users")
 public class UserControllerThymeleaf {
 
     private final UserApiService userApiService;
+    private final UserAsyncApiService userAsyncApiService;
 
     @GetMapping("/new")
     public String createUserMenu(Model model) {
@@ -45,17 +50,28 @@ public class UserControllerThymeleaf {
     }
 
     @GetMapping
-    public String findAll(Model model) {
-        model.addAttribute("users", userApiService.findAll());
-        return "elp/users";
+    public CompletableFuture<String> findAll(@RequestParam(required = false) String after,
+                                             @RequestParam(required = false) String before,
+                                             @RequestParam(defaultValue = "${finance.ui.page-size:50}") int size,
+                                             Model model) {
+        int limit = CursorPageModel.limit(size);
+        return userAsyncApiService.findPage(after, before, limit).thenApply(found -> found
+                .map(page -> {
+                    model.addAttribute("users", page.getItems());
+                    model.addAttribute("page", page);
+                    model.addAttribute("size", limit);
+                    return "elp/users";
+                })
+                .orElse("400"));
     }
 
     @GetMapping("/{id}")
-    public String findById(@PathVariable Long id, Model model) {
-        if (userApiService.findById(id).isPresent()) {
-            model.addAttribute("user_det", userApiService.findById(id).get());
-            return "edp/user_details";
-        }
-        return "404";
+    public CompletableFuture<String> findById(@PathVariable Long id, Model model) {
+        return userAsyncApiService.findById(id).thenApply(details -> details
+                .map(found -> {
+                    model.addAttribute("user_det", found);
+                    return "edp/user_details";
+                })
+                .orElse("404"));
     }
 }
@@ -0,0 +1,56 @@
+package my.finances.metrics;
+
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.Timer;
+import org.aspectj.lang.ProceedingJoinPoint;
+import org.aspectj.lang.annotation.Around;
+import org.aspectj.lang.annotation.Aspect;
+import org.springframework.stereotype.Component;
+
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CompletionException;
+
+/**
+ * Times every backend API client call as {@code finance.api.client}. Calls served by the UI caches never reach
+ * these services, so the timer only sees cache misses and writes. Asynchronous calls are timed until their future
+ * completes rather than until the method returns.
+ */
+@Aspect
+@Component
+public class ApiClientTimingAspect {
+
+    private final MeterRegistry registry;
+
+    public ApiClientTimingAspect(MeterRegistry registry) {
+        this.registry = registry;
+    }
+
+    @Around("within(my.finances.api.impl..*) && execution(public * *(..))")
+    public Object time(ProceedingJoinPoint joinPoint) throws Throwable {
+        Timer.Sample sample = Timer.start(registry);
+        Object result;
+        try {
+            result = joinPoint.proceed();
+        } catch (Throwable e) {
+            stop(sample, joinPoint, e);
+            throw e;
+        }
+        if (result instanceof CompletableFuture<?> future) {
+            return future.whenComplete((value, e) -> stop(sample, joinPoint, e));
+        }
+        stop(sample, joinPoint, null);
+        return result;
+    }
+
+    private void stop(Timer.Sample sample, ProceedingJoinPoint joinPoint, Throwable error) {
+        if (error instanceof CompletionException && error.getCause() != null) {
+            error = error.getCause();
+        }
+        sample.stop(Timer.builder("finance.api.client")
+                .description("Backend API client call latency")
+                .tag("class", joinPoint.getSignature().getDeclaringType().getSimpleName())
+                .tag("method", joinPoint.getSignature().getName())
+                .tag("exception", error == null ? "none" : error.getClass().getSimpleName())
+                .register(registry));
+    }
+}
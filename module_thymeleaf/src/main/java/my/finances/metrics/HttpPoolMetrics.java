@@ -0,0 +1,45 @@
+package my.finances.metrics;
+
+import io.micrometer.core.instrument.Gauge;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.binder.MeterBinder;
+import org.apache.hc.client5.http.impl.io.PoolingHttpClientConnectionManager;
+import org.springframework.stereotype.Component;
+
+/**
+ * Publishes the blocking backend client's connection pool as {@code httpcomponents.httpclient.pool.*} gauges, the
+ * names Micrometer uses for its HttpClient 4 binder, tagged {@code httpclient=backend}.
+ */
+@Component
+public class HttpPoolMetrics implements MeterBinder {
+
+    private final PoolingHttpClientConnectionManager backendConnectionManager;
+
+    public HttpPoolMetrics(PoolingHttpClientConnectionManager backendConnectionManager) {
+        this.backendConnectionManager = backendConnectionManager;
+    }
+
+    @Override
+    public void bindTo(MeterRegistry registry) {
+        Gauge.builder("httpcomponents.httpclient.pool.total.max", backendConnectionManager,
+                        manager -> manager.getTotalStats().getMax())
+                .tag("httpclient", "backend")
+                .description("The configured maximum number of allowed persistent connections for all routes")
+                .register(registry);
+        Gauge.builder("httpcomponents.httpclient.pool.total.connections", backendConnectionManager,
+                        manager -> manager.getTotalStats().getAvailable())
+                .tags("httpclient", "backend", "state", "available")
+                .description("The number of persistent and available connections for all routes")
+                .register(registry);
+        Gauge.builder("httpcomponents.httpclient.pool.total.connections", backendConnectionManager,
+                        manager -> manager.getTotalStats().getLeased())
+                .tags("httpclient", "backend", "state", "leased")
+                .description("The number of persistent and leased connections for all routes")
+                .register(registry);
+        Gauge.builder("httpcomponents.httpclient.pool.total.pending", backendConnectionManager,
+                        manager -> manager.getTotalStats().getPending())
+                .tag("httpclient", "backend")
+                .description("The number of connection requests being blocked awaiting a free connection")
+                .register(registry);
+    }
+}
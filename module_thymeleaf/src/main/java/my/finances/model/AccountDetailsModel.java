@@ -15,4 +15,5 @@ public class AccountDetailsModel {
     private String name;
     private Long userId;
     private Collection<TransactionModel> transactions;
+    private String next;
 }
@@ -0,0 +1,68 @@
+package my.finances.model;
+
+import java.util.Collections;
+import java.util.Iterator;
+import java.util.NoSuchElementException;
+import java.util.function.Function;
+
+/**
+ * Walks a cursor-paginated backend listing one page at a time. Each iteration starts from the first page and keeps
+ * only the current page in memory, so a template can render rows while the following pages are still being fetched.
+ * A failed page request ends the iteration and marks the listing as {@link #isFailed() failed}, so the template can
+ * tell the user the table is incomplete.
+ */
+public class CursorPageIterable<T> implements Iterable<T> {
+
+    private final Function<String, CursorPageModel<T>> pageLoader;
+    private volatile boolean failed;
+
+    public CursorPageIterable(Function<String, CursorPageModel<T>> pageLoader) {
+        this.pageLoader = pageLoader;
+    }
+
+    public boolean isFailed() {
+        return failed;
+    }
+
+    @Override
+    public Iterator<T> iterator() {
+        failed = false;
+        return new Iterator<>() {
+            private Iterator<T> items = Collections.emptyIterator();
+            private String next;
+            private boolean started;
+
+            @Override
+            public boolean hasNext() {
+                while (!items.hasNext() && (!started || next != null)) {
+                    CursorPageModel<T> page = load(next);
+                    started = true;
+                    if (page == null || page.getItems() == null) {
+                        failed = true;
+                        next = null;
+                        return false;
+                    }
+                    items = page.getItems().iterator();
+                    next = page.getNext();
+                }
+                return items.hasNext();
+            }
+
+            @Override
+            public T next() {
+                if (!hasNext()) {
+                    throw new NoSuchElementException();
+                }
+                return items.next();
+            }
+        };
+    }
+
+    private CursorPageModel<T> load(String after) {
+        try {
+            return pageLoader.apply(after);
+        } catch (RuntimeException e) {
+            return null;
+        }
+    }
+}
@@ -0,0 +1,44 @@
+package my.finances.model;
+
+import lombok.Getter;
+import lombok.Setter;
+
+import java.util.Collection;
+import java.util.HashMap;
+import java.util.Map;
+
+@Getter
+@Setter
+public class CursorPageModel<T> {
+    public static final int PAGE_LIMIT = 1000;
+
+    private Collection<T> items;
+    private String next;
+    private String prev;
+
+    public static String query(String after) {
+        return query(after, null);
+    }
+
+    public static String query(String after, String before) {
+        return "?limit={limit}"
+                + (after != null ? "&after={after}" : "")
+                + (before != null ? "&before={before}" : "");
+    }
+
+    public static Map<String, Object> variables(String after) {
+        return variables(after, null, PAGE_LIMIT);
+    }
+
+    public static Map<String, Object> variables(String after, String before, int limit) {
+        Map<String, Object> variables = new HashMap<>();
+        variables.put("limit", limit);
+        variables.put("after", after);
+        variables.put("before", before);
+        return variables;
+    }
+
+    public static int limit(int size) {
+        return Math.min(Math.max(size, 1), PAGE_LIMIT);
+    }
+}
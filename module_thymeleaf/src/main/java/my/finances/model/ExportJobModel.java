@@ -0,0 +1,26 @@
+package my.finances.model;
+
+import lombok.Getter;
+import lombok.Setter;
+
+import java.util.Date;
+
+@Getter
+@Setter
+public class ExportJobModel {
+    private String jobId;
+    private Long accountId;
+    private String state;
+    private Date created;
+    private Date started;
+    private Date finished;
+    private Long rowsWritten;
+    private Long totalRows;
+    private Long bytesWritten;
+    private Long etaSeconds;
+    private String error;
+
+    public boolean isInProgress() {
+        return "QUEUED".equals(state) || "RUNNING".equals(state);
+    }
+}